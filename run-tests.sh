@@ -33,6 +33,17 @@ usage() {
     echo "  api         Run API tests only"
     echo "  ui          Run UI tests only"
     echo "  smoke       Run smoke tests only"
+    echo "  resume      Resume the last run of a suite, skipping passed scenarios"
+    echo "  matrix      Run UI tests on several browsers concurrently: matrix [BROWSERS]"
+    echo "  soak        Repeat smoke scenarios and report latency and memory trends: soak [MINUTES]"
+    echo "  load        Simulate concurrent showroom users in headless browsers: load [STAGES]"
+    echo "  snapshots   Show API snapshot differences from the last run"
+    echo "  approve-snapshots  Accept received API snapshots as golden: approve-snapshots [NAME...]"
+    echo "  cds         Train the class-data sharing archive for faster test JVM startup: cds [RUNNER]"
+    echo "  startup     Compare test JVM startup with and without the archive: startup [RUNNER] [RUNS]"
+    echo "  daemon      Start the warm test daemon in the foreground"
+    echo "  submit      Run tags/features on the daemon: submit [TAGS] [FEATURE[:LINE],...]"
+    echo "  stop-daemon Stop the test daemon"
     echo "  clean       Clean build artifacts"
     echo "  install     Install dependencies"
     echo "  report      Open test report in browser"
@@ -42,6 +53,15 @@ usage() {
     echo "  $0 smoke              # Run smoke tests"
     echo "  $0 api                # Run API tests"
     echo "  HEADLESS=true $0 ui   # Run UI tests in headless mode"
+    echo "  RERUN=2 $0 api        # Re-execute failed scenarios up to 2 times in the same JVM"
+    echo "  $0 resume api         # Continue an interrupted or failed API run"
+    echo "  $0 matrix chrome,firefox  # Run UI tests on Chrome and Firefox side by side"
+    echo "  HEADLESS=true $0 soak 120  # Soak the smoke scenarios for two hours"
+    echo "  $0 load 1m:20,3m:20,30s:0  # Ramp to 20 showroom users, hold 3 minutes, ramp down"
+    echo "  $0 approve-snapshots cars-catalogue  # Accept the new cars-catalogue snapshot"
+    echo "  $0 cds TestRunnerApi  # Train the startup archive on the API suite"
+    echo "  $0 submit @smoke      # Run smoke scenarios on the warm daemon"
+    echo "  $0 submit '' src/test/resources/features/api/cars_api.feature:17"
     echo ""
 }
 
@@ -49,14 +69,21 @@ usage() {
 run_tests() {
     local test_runner=$1
     local description=$2
+    local goals=${3:-"clean test"}
+    local extra_args=""
     
     print_info "Starting $description..."
     
+    if [ -n "$RERUN" ]; then
+        print_warning "Re-executing failed scenarios up to $RERUN time(s)"
+        extra_args="$extra_args -Drerun.failing.count=$RERUN"
+    fi
+
     if [ -n "$HEADLESS" ]; then
         print_warning "Running in headless mode"
-        mvn clean test -Dtest=$test_runner -Dheadless=true
+        mvn $goals -Dtest=$test_runner -Dheadless=true $extra_args
     else
-        mvn clean test -Dtest=$test_runner
+        mvn $goals -Dtest=$test_runner $extra_args
     fi
     
     if [ $? -eq 0 ]; then
@@ -67,6 +94,108 @@ run_tests() {
     fi
 }
 
+DAEMON_PORT=${DAEMON_PORT:-7890}
+SNAPSHOT_DIR=${SNAPSHOT_DIR:-src/test/resources/snapshots}
+SNAPSHOT_OUTPUT_DIR=${SNAPSHOT_OUTPUT_DIR:-target/snapshots}
+CDS_ARCHIVE=${CDS_ARCHIVE:-.cds/test-jvm.jsa}
+
+# Function to print the structural diffs of mismatched API snapshots
+review_snapshots() {
+    local found=0
+    for diff_file in "$SNAPSHOT_OUTPUT_DIR"/*.diff.txt; do
+        [ -f "$diff_file" ] || continue
+        found=1
+        print_warning "$(basename "$diff_file" .diff.txt)"
+        cat "$diff_file"
+        echo ""
+    done
+    if [ $found -eq 0 ]; then
+        print_info "No API snapshot differences in $SNAPSHOT_OUTPUT_DIR"
+    fi
+}
+
+# Function to copy received API snapshots over their golden files
+approve_snapshots() {
+    local names=("$@")
+    if [ ${#names[@]} -eq 0 ]; then
+        for received in "$SNAPSHOT_OUTPUT_DIR"/*.received.json; do
+            [ -f "$received" ] && names+=("$(basename "$received" .received.json)")
+        done
+    fi
+    if [ ${#names[@]} -eq 0 ]; then
+        print_info "No received API snapshots to approve"
+        return 0
+    fi
+
+    mkdir -p "$SNAPSHOT_DIR"
+    for name in "${names[@]}"; do
+        local received="$SNAPSHOT_OUTPUT_DIR/$name.received.json"
+        if [ ! -f "$received" ]; then
+            print_error "No received snapshot for '$name' in $SNAPSHOT_OUTPUT_DIR"
+            exit 1
+        fi
+        mv "$received" "$SNAPSHOT_DIR/$name.json"
+        rm -f "$SNAPSHOT_OUTPUT_DIR/$name.diff.txt"
+        print_info "Approved snapshot '$name'"
+    done
+}
+
+# Function to compare test JVM startup times with and without the class-data sharing archive
+compare_startup() {
+    local runner=${1:-TestRunnerSmoke}
+    local runs=${2:-3}
+    local report="target/reports/jvm-startup-compare.csv"
+    local log="target/reports/jvm-startup-compare.log"
+    local args="-Dtest=$runner -Dheadless=true -Dmaven.test.failure.ignore=true -Dstartup.report.path=$report"
+    mkdir -p target/reports
+    rm -f "$report" "$log"
+
+    if [ ! -f "$CDS_ARCHIVE" ]; then
+        print_info "Training the class-data sharing archive on $runner..."
+        mvn -q test -Pcds $args >> "$log" 2>&1
+    fi
+    for run in $(seq "$runs"); do
+        print_info "Run $run of $runs: without and with the archive"
+        mvn -q test -P '!cds' $args >> "$log" 2>&1
+        mvn -q test -Pcds $args >> "$log" 2>&1
+    done
+
+    echo ""
+    awk -F, 'NR > 1 && $2 != "training" { sum[$2] += $3; count[$2]++ }
+        END { for (mode in sum) printf "  %-8s %2d runs, %6.0f ms to the first hook\n", mode, count[mode], sum[mode] / count[mode] }' \
+        "$report"
+    print_info "Startup times per run in $report, build output in $log"
+}
+
+# Function to start the warm test daemon
+start_daemon() {
+    print_info "Compiling tests and resolving classpath..."
+    mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+    print_info "Starting test daemon on port $DAEMON_PORT (Ctrl+C to stop)"
+    java -Ddaemon.port=$DAEMON_PORT -cp "target/test-classes:$(cat target/classpath.txt)" com.qa.runners.TestDaemon
+}
+
+# Function to send a request to the test daemon and print its output
+daemon_request() {
+    # Braces scope the redirect; a bare exec would silence stderr for the rest of the script
+    if ! { exec 3<>/dev/tcp/127.0.0.1/$DAEMON_PORT; } 2>/dev/null; then
+        print_error "Test daemon is not running. Start it with: $0 daemon"
+        exit 1
+    fi
+    printf '%s\n' "$1" >&3
+
+    local exit_code=0
+    while IFS= read -r line <&3; do
+        if [[ "$line" == EXIT* ]]; then
+            exit_code=${line#EXIT }
+        else
+            echo "$line"
+        fi
+    done
+    exec 3<&-
+    return $exit_code
+}
+
 # Function to open report
 open_report() {
     local report_file="target/reports/cucumber-reports.html"
@@ -104,6 +233,62 @@ case "$1" in
     smoke)
         run_tests "TestRunnerSmoke" "Smoke Tests"
         ;;
+    resume)
+        case "$2" in
+            api) runner="TestRunnerApi" ;;
+            ui) runner="TestRunnerUi" ;;
+            smoke) runner="TestRunnerSmoke" ;;
+            *) runner="TestRunnerAll" ;;
+        esac
+        # No clean: the run manifest in target/manifest must survive
+        run_tests "$runner" "Resumed Tests" "test -Drun.resume=true"
+        ;;
+    matrix)
+        if [ -n "$2" ]; then
+            run_tests "CrossBrowserMatrixRunner" "Cross-Browser Matrix" "clean test -Dbrowser.matrix=$2"
+        else
+            run_tests "CrossBrowserMatrixRunner" "Cross-Browser Matrix"
+        fi
+        ;;
+    soak)
+        if [ -n "$2" ]; then
+            run_tests "SoakRunner" "Soak Test" "clean test -Dsoak.duration.minutes=$2"
+        else
+            run_tests "SoakRunner" "Soak Test"
+        fi
+        ;;
+    load)
+        if [ -n "$2" ]; then
+            run_tests "ShowroomLoadRunner" "Showroom Load Simulation" "clean test -Dload.stages=$2"
+        else
+            run_tests "ShowroomLoadRunner" "Showroom Load Simulation"
+        fi
+        ;;
+    snapshots)
+        review_snapshots
+        ;;
+    approve-snapshots)
+        shift
+        approve_snapshots "$@"
+        ;;
+    cds)
+        run_tests "${2:-TestRunnerSmoke}" "Class-Data Sharing Training" "clean test -Pcds -Dcds.mode=train"
+        ;;
+    startup)
+        compare_startup "$2" "$3"
+        ;;
+    daemon)
+        start_daemon
+        ;;
+    submit)
+        # Feature files are re-read on every run; restart the daemon after changing Java code
+        printf -v request 'RUN\t%s\t%s' "$2" "$3"
+        daemon_request "$request"
+        exit $?
+        ;;
+    stop-daemon)
+        daemon_request "STOP"
+        ;;
     clean)
         print_info "Cleaning build artifacts..."
         mvn clean
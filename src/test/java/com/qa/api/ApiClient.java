@@ -1,6 +1,14 @@
 package com.qa.api;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qa.api.latency.LatencyRecorder;
+import com.qa.api.models.HttpResult;
 import com.qa.common.ConfigManager;
+import com.qa.common.ScenarioDeadline;
+import com.qa.common.StepContext;
+import com.qa.common.proxy.FaultInjectionProxy;
+import com.qa.common.jfr.HttpCallEvent;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
@@ -8,23 +16,49 @@ import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 /**
  * Base API Client for REST API interactions
  * Provides reusable methods for all HTTP operations
+ * Only the *Async methods go through the pluggable HttpTransport (api.transport); get, post, put,
+ * patch and delete always use REST Assured, since steps assert on its Response
  */
 public class ApiClient {
     private static final Logger logger = LoggerFactory.getLogger(ApiClient.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS");
+    private static final Set<Integer> UNAVAILABLE_STATUSES = Set.of(502, 503, 504);
     private final String baseUrl;
+    private final HttpTransport transport;
 
     public ApiClient() {
-        this.baseUrl = ConfigManager.getInstance().getApiBaseUrl();
+        this(HttpTransport.fromName(ConfigManager.getInstance().getApiTransport()));
+    }
+
+    public ApiClient(HttpTransport transport) {
+        ConfigManager config = ConfigManager.getInstance();
+        this.baseUrl = config.isProxyEnabled()
+                ? FaultInjectionProxy.getInstance().reverseProxyUrl(config.getApiBaseUrl())
+                : config.getApiBaseUrl();
+        this.transport = transport;
         RestAssured.baseURI = baseUrl;
     }
 
     protected RequestSpecification getRequestSpecification() {
         return RestAssured.given()
+                .config(RestAssuredTransport.timeoutConfig(requestTimeout()))
                 .contentType(ContentType.JSON)
                 .accept(ContentType.JSON)
                 .log().all();
@@ -32,66 +66,286 @@ public class ApiClient {
 
     public Response get(String endpoint) {
         logger.info("GET request to: {}", endpoint);
-        return getRequestSpecification()
+        return execute("GET", endpoint, () -> getRequestSpecification()
                 .when()
                 .get(endpoint)
                 .then()
                 .log().all()
-                .extract().response();
+                .extract().response());
     }
 
     public Response get(String endpoint, Map<String, ?> queryParams) {
         logger.info("GET request to: {} with params: {}", endpoint, queryParams);
-        return getRequestSpecification()
+        return execute("GET", endpoint, () -> getRequestSpecification()
                 .queryParams(queryParams)
                 .when()
                 .get(endpoint)
                 .then()
                 .log().all()
-                .extract().response();
+                .extract().response());
     }
 
     public Response post(String endpoint, Object body) {
         logger.info("POST request to: {} with body: {}", endpoint, body);
-        return getRequestSpecification()
+        return execute("POST", endpoint, () -> getRequestSpecification()
                 .body(body)
                 .when()
                 .post(endpoint)
                 .then()
                 .log().all()
-                .extract().response();
+                .extract().response());
     }
 
     public Response put(String endpoint, Object body) {
         logger.info("PUT request to: {} with body: {}", endpoint, body);
-        return getRequestSpecification()
+        return execute("PUT", endpoint, () -> getRequestSpecification()
                 .body(body)
                 .when()
                 .put(endpoint)
                 .then()
                 .log().all()
-                .extract().response();
+                .extract().response());
     }
 
     public Response patch(String endpoint, Object body) {
         logger.info("PATCH request to: {} with body: {}", endpoint, body);
-        return getRequestSpecification()
+        return execute("PATCH", endpoint, () -> getRequestSpecification()
                 .body(body)
                 .when()
                 .patch(endpoint)
                 .then()
                 .log().all()
-                .extract().response();
+                .extract().response());
     }
 
     public Response delete(String endpoint) {
         logger.info("DELETE request to: {}", endpoint);
-        return getRequestSpecification()
+        return execute("DELETE", endpoint, () -> getRequestSpecification()
                 .when()
                 .delete(endpoint)
                 .then()
                 .log().all()
-                .extract().response();
+                .extract().response());
+    }
+
+    /**
+     * Runs a request and records it as a Flight Recorder event
+     */
+    protected Response execute(String method, String endpoint, Supplier<Response> call) {
+        HttpCallEvent event = new HttpCallEvent();
+        event.begin();
+        long requestId = InFlightRequests.started(method, baseUrl + endpoint, null);
+        Response response = null;
+        try {
+            response = callWithRetry(method, endpoint, call);
+            recordLatency(method, endpoint, response.getTime());
+            return response;
+        } finally {
+            InFlightRequests.finished(requestId);
+            event.end();
+            if (event.shouldCommit()) {
+                event.scenario = StepContext.getScenario();
+                event.step = StepContext.getStep();
+                event.method = method;
+                event.endpoint = endpoint;
+                event.statusCode = response != null ? response.getStatusCode() : -1;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Sends a request through the circuit breaker, retrying idempotent requests on connection
+     * failures and 502/503/504 with exponential backoff. The last unavailable response is
+     * returned, so scenarios can still assert on it.
+     */
+    private Response callWithRetry(String method, String endpoint, Supplier<Response> call) {
+        ConfigManager config = ConfigManager.getInstance();
+        CircuitBreaker breaker = CircuitBreaker.getInstance();
+        String request = method + " " + endpoint;
+        int attempts = IDEMPOTENT_METHODS.contains(method) ? 1 + config.getApiRetryAttempts() : 1;
+
+        for (int attempt = 1; ; attempt++) {
+            breaker.beforeRequest(request);
+            try {
+                Response response = call.get();
+                if (!UNAVAILABLE_STATUSES.contains(response.getStatusCode())) {
+                    breaker.recordSuccess();
+                    return response;
+                }
+                breaker.recordFailure("HTTP " + response.getStatusCode() + " from " + request);
+                if (attempt >= attempts) {
+                    return response;
+                }
+            } catch (Exception e) {
+                // REST Assured rethrows checked exceptions such as ConnectException undeclared
+                IOException unavailable = unavailabilityCause(e);
+                if (unavailable == null) {
+                    breaker.recordNeutral();
+                    if (e instanceof RuntimeException) {
+                        throw (RuntimeException) e;
+                    }
+                    throw new RuntimeException(request + " failed", e);
+                }
+                breaker.recordFailure(unavailable.getClass().getSimpleName() + ": " + unavailable.getMessage()
+                        + " from " + request);
+                if (attempt >= attempts || unavailable instanceof UnknownHostException) {
+                    throw new ApiUnavailableException(request + " failed after " + attempt + " attempt(s)", e);
+                }
+            }
+            backOff(attempt, request);
+        }
+    }
+
+    private static IOException unavailabilityCause(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return (IOException) cause;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sleeps api.retry.backoff.ms doubled per attempt with full jitter, capped by
+     * api.retry.backoff.max.ms and by what is left of the scenario budget
+     */
+    private static void backOff(int attempt, String request) {
+        ConfigManager config = ConfigManager.getInstance();
+        long ceiling = Math.min(config.getApiRetryBackoffMaxMillis(),
+                config.getApiRetryBackoffMillis() << Math.min(attempt - 1, 20));
+        Duration delay = Duration.ofMillis(ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1));
+        Duration remaining = ScenarioDeadline.remaining();
+        if (remaining != null && remaining.compareTo(delay) < 0) {
+            delay = remaining;
+        }
+        logger.warn("Retrying {} in {} ms (attempt {})", request, delay.toMillis(), attempt + 1);
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiUnavailableException("Interrupted while retrying " + request, e);
+        }
+    }
+
+    /**
+     * Maps a concrete endpoint to the template its latency is tracked under, e.g. /cars/{id}
+     */
+    protected String endpointTemplate(String endpoint) {
+        return endpoint;
+    }
+
+    /**
+     * Skipped while the fault injection proxy applies a profile, whose injected delays would skew the baseline
+     */
+    private void recordLatency(String method, String endpoint, long millis) {
+        if (ConfigManager.getInstance().isLatencyRecordingEnabled() && !FaultInjectionProxy.isInjectingFaults()) {
+            LatencyRecorder.getInstance().record(method, endpointTemplate(endpoint), millis);
+        }
+    }
+
+    /**
+     * Returns the configured read timeout, limited to what is left of the scenario budget
+     */
+    protected Duration requestTimeout() {
+        return ScenarioDeadline.cap(Duration.ofMillis(ConfigManager.getInstance().getApiTimeout()), "API call");
+    }
+
+    public CompletableFuture<HttpResult> getAsync(String endpoint) {
+        return sendAsync("GET", endpoint, null, null);
+    }
+
+    public CompletableFuture<HttpResult> getAsync(String endpoint, Map<String, ?> queryParams) {
+        return sendAsync("GET", endpoint, queryParams, null);
+    }
+
+    public CompletableFuture<HttpResult> postAsync(String endpoint, Object body) {
+        return sendAsync("POST", endpoint, null, body);
+    }
+
+    public CompletableFuture<HttpResult> putAsync(String endpoint, Object body) {
+        return sendAsync("PUT", endpoint, null, body);
+    }
+
+    public CompletableFuture<HttpResult> deleteAsync(String endpoint) {
+        return sendAsync("DELETE", endpoint, null, null);
+    }
+
+    /**
+     * Sends a request through the pluggable transport without blocking the calling thread
+     */
+    protected CompletableFuture<HttpResult> sendAsync(String method, String endpoint,
+                                                      Map<String, ?> queryParams, Object body) {
+        String url = buildUrl(endpoint, queryParams);
+        logger.info("{} async request to: {}", method, url);
+        Duration timeout = requestTimeout();
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Accept", "application/json");
+        if (body != null) {
+            headers.put("Content-Type", "application/json");
+        }
+
+        CircuitBreaker breaker = CircuitBreaker.getInstance();
+        try {
+            breaker.beforeRequest(method + " " + endpoint);
+        } catch (ApiUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        HttpCallEvent event = new HttpCallEvent();
+        event.scenario = StepContext.getScenario();
+        event.step = StepContext.getStep();
+        event.method = method;
+        event.endpoint = endpoint;
+        event.begin();
+
+        CompletableFuture<HttpResult> future = transport.sendAsync(method, url, headers, serialize(body), timeout)
+                .whenComplete((result, error) -> {
+                    if (result != null && UNAVAILABLE_STATUSES.contains(result.getStatusCode())) {
+                        breaker.recordFailure("HTTP " + result.getStatusCode() + " from " + method + " " + endpoint);
+                    } else if (result != null) {
+                        breaker.recordSuccess();
+                    } else if (unavailabilityCause(error) != null) {
+                        breaker.recordFailure(unavailabilityCause(error) + " from " + method + " " + endpoint);
+                    } else {
+                        breaker.recordNeutral();
+                    }
+                    if (result != null) {
+                        recordLatency(method, endpoint, result.getDurationMillis());
+                    }
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.statusCode = result != null ? result.getStatusCode() : -1;
+                        event.commit();
+                    }
+                });
+        long requestId = InFlightRequests.started(method, url, future);
+        future.whenComplete((result, error) -> InFlightRequests.finished(requestId));
+        return future;
+    }
+
+    private String buildUrl(String endpoint, Map<String, ?> queryParams) {
+        StringBuilder url = new StringBuilder(baseUrl).append(endpoint);
+        if (queryParams != null && !queryParams.isEmpty()) {
+            StringJoiner query = new StringJoiner("&", "?", "");
+            queryParams.forEach((key, value) -> query.add(
+                    URLEncoder.encode(key, StandardCharsets.UTF_8) + "="
+                            + URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8)));
+            url.append(query);
+        }
+        return url.toString();
+    }
+
+    private static String serialize(Object body) {
+        if (body == null || body instanceof String) {
+            return (String) body;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize request body", e);
+        }
     }
 
     public String getBaseUrl() {
@@ -0,0 +1,17 @@
+package com.qa.api;
+
+/**
+ * Thrown instead of sending a request while the API circuit breaker is open, and for
+ * connection failures that exhausted their retries
+ */
+public class ApiUnavailableException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public ApiUnavailableException(String message) {
+        super(message);
+    }
+
+    public ApiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
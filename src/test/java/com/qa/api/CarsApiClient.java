@@ -1,9 +1,22 @@
 package com.qa.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qa.api.models.HttpResult;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
 /**
  * Cars-specific API Client
  * Provides domain-specific methods for Cars API endpoints
@@ -11,6 +24,8 @@ import org.slf4j.LoggerFactory;
 public class CarsApiClient extends ApiClient {
     private static final Logger logger = LoggerFactory.getLogger(CarsApiClient.class);
     private static final String CARS_ENDPOINT = "/cars";
+    private static final String CAR_BY_ID_TEMPLATE = CARS_ENDPOINT + "/{id}";
+    private static final ObjectMapper catalogueReader = new ObjectMapper();
 
     public Response getAllCars() {
         logger.info("Fetching all cars");
@@ -26,4 +41,62 @@ public class CarsApiClient extends ApiClient {
         logger.info("Fetching health check status");
         return get("/health-check");
     }
+
+    @Override
+    protected String endpointTemplate(String endpoint) {
+        return endpoint.matches(CARS_ENDPOINT + "/\\d+") ? CAR_BY_ID_TEMPLATE : endpoint;
+    }
+
+    public CompletableFuture<HttpResult> getAllCarsAsync() {
+        return getAsync(CARS_ENDPOINT);
+    }
+
+    public CompletableFuture<HttpResult> getCarByIdAsync(int carId) {
+        return getAsync(CARS_ENDPOINT + "/" + carId);
+    }
+
+    public CompletableFuture<HttpResult> getHealthCheckAsync() {
+        return getAsync("/health-check");
+    }
+
+    /**
+     * Fetches the whole catalogue as one map of scalar field values per car, for joining with other sources
+     */
+    public CompletableFuture<List<Map<String, String>>> getCarCatalogueAsync() {
+        return getAllCarsAsync().thenApply(result -> {
+            if (result.getStatusCode() != 200) {
+                throw new IllegalStateException("GET " + CARS_ENDPOINT + " returned " + result.getStatusCode());
+            }
+            try {
+                JsonNode cars = catalogueReader.readTree(result.getBody()).path("cars");
+                List<Map<String, String>> catalogue = new ArrayList<>(cars.size());
+                for (JsonNode car : cars) {
+                    Map<String, String> fields = new HashMap<>();
+                    car.fields().forEachRemaining(field -> {
+                        if (field.getValue().isValueNode() && !field.getValue().isNull()) {
+                            fields.put(field.getKey(), field.getValue().asText());
+                        }
+                    });
+                    catalogue.add(fields);
+                }
+                return catalogue;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unreadable " + CARS_ENDPOINT + " response", e);
+            }
+        });
+    }
+
+    /**
+     * Fetches several cars concurrently; completes when every request has completed
+     */
+    public CompletableFuture<List<HttpResult>> getCarsByIdsAsync(Collection<Integer> carIds) {
+        logger.info("Fetching cars concurrently: {}", carIds);
+        List<CompletableFuture<HttpResult>> requests = carIds.stream()
+                .map(this::getCarByIdAsync)
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> requests.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList()));
+    }
 }
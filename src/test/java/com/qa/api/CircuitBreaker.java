@@ -0,0 +1,127 @@
+package com.qa.api;
+
+import com.qa.common.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker for the API under test
+ * After api.circuit.failure.threshold consecutive unavailability failures (connection
+ * errors, timeouts, 502/503/504) the circuit opens and requests fail immediately with
+ * ApiUnavailableException. After api.circuit.open.seconds one probe request is let through:
+ * success closes the circuit, failure opens it again.
+ */
+public class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+    private static CircuitBreaker instance;
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+    private String lastFailure;
+
+    private CircuitBreaker() {
+    }
+
+    public static synchronized CircuitBreaker getInstance() {
+        if (instance == null) {
+            instance = new CircuitBreaker();
+        }
+        return instance;
+    }
+
+    /**
+     * Lets a request through, or throws ApiUnavailableException while the circuit is open
+     */
+    public synchronized void beforeRequest(String request) {
+        if (!config.isApiCircuitBreakerEnabled()) {
+            return;
+        }
+        if (state == State.OPEN) {
+            if (remainingOpenMillis() > 0) {
+                throw new ApiUnavailableException("Not sending " + request + ": " + getOpenReason());
+            }
+            state = State.HALF_OPEN;
+            logger.info("API circuit half-open, probing with {}", request);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                throw new ApiUnavailableException("Not sending " + request + ": API circuit is probing after "
+                        + lastFailure);
+            }
+            probeInFlight = true;
+        }
+    }
+
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            logger.info("API circuit closed, the API responds again");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void recordFailure(String reason) {
+        lastFailure = reason;
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= config.getApiCircuitFailureThreshold()) {
+            open();
+        }
+    }
+
+    /**
+     * Ends a request that neither proved nor disproved availability, such as a client error
+     */
+    public synchronized void recordNeutral() {
+        probeInFlight = false;
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    /**
+     * Opens the circuit without waiting for the failure threshold, e.g. after a failed health check
+     */
+    public synchronized void trip(String reason) {
+        lastFailure = reason;
+        open();
+    }
+
+    public synchronized void reset() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        lastFailure = null;
+    }
+
+    /**
+     * True while requests are rejected; false once the recovery probe may be sent
+     */
+    public synchronized boolean isOpen() {
+        return config.isApiCircuitBreakerEnabled() && state == State.OPEN && remainingOpenMillis() > 0;
+    }
+
+    public synchronized String getOpenReason() {
+        return String.format("API circuit open for another %ds after %d consecutive failure(s), last: %s",
+                (remainingOpenMillis() + 999) / 1000, consecutiveFailures, lastFailure);
+    }
+
+    private void open() {
+        if (state != State.OPEN) {
+            logger.warn("API circuit opened for {}s: {}", config.getApiCircuitOpenSeconds(), lastFailure);
+        }
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+    }
+
+    private long remainingOpenMillis() {
+        long openMillis = config.getApiCircuitOpenSeconds() * 1000L;
+        return Math.max(0, openMillis - (System.nanoTime() - openedAtNanos) / 1_000_000);
+    }
+}
@@ -0,0 +1,38 @@
+package com.qa.api;
+
+import com.qa.api.models.HttpResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pluggable transport used by the asynchronous ApiClient methods; the synchronous ones use REST Assured
+ */
+public interface HttpTransport {
+
+    /**
+     * Sends a request without blocking the caller
+     *
+     * @param method  HTTP method
+     * @param url     absolute URL including any query string
+     * @param headers request headers
+     * @param body    request body, or null
+     * @param timeout maximum time until the response is complete
+     */
+    CompletableFuture<HttpResult> sendAsync(String method, String url, Map<String, String> headers, String body,
+                                            Duration timeout);
+
+    /**
+     * Creates the transport selected by the api.transport property
+     */
+    static HttpTransport fromName(String name) {
+        switch (name.toLowerCase()) {
+            case "rest-assured":
+                return RestAssuredTransport.getInstance();
+            case "java-http":
+            default:
+                return JavaHttpTransport.getInstance();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.qa.api;
+
+import com.qa.common.StepContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registry of the ApiClient requests currently waiting for a response
+ * Read by the step watchdog to show what a stuck step was waiting for
+ */
+public class InFlightRequests {
+    private static final Map<Long, Request> requests = new ConcurrentHashMap<>();
+    private static final AtomicLong ids = new AtomicLong();
+
+    private InFlightRequests() {
+    }
+
+    /**
+     * Registers a request sent from the current thread; the future is set for asynchronous calls
+     */
+    public static long started(String method, String url, CompletableFuture<?> future) {
+        long id = ids.incrementAndGet();
+        requests.put(id, new Request(method, url, future));
+        return id;
+    }
+
+    public static void finished(long id) {
+        requests.remove(id);
+    }
+
+    /**
+     * Describes every in-flight request, marking those sent from the given thread
+     */
+    public static List<String> describe(Thread thread) {
+        List<String> lines = new ArrayList<>();
+        long now = System.nanoTime();
+        requests.values().forEach(request -> lines.add(String.format("%s %s %s (thread %s, scenario '%s', %.1f s)",
+                request.thread == thread ? "*" : " ", request.method, request.url, request.thread.getName(),
+                request.scenario, (now - request.startNanos) / 1e9)));
+        return lines;
+    }
+
+    /**
+     * Fails the asynchronous requests sent from the given thread, releasing callers blocked in join()
+     */
+    public static int abort(Thread thread, String reason) {
+        int aborted = 0;
+        for (Request request : requests.values()) {
+            if (request.thread == thread && request.future != null
+                    && request.future.completeExceptionally(new TimeoutException(reason))) {
+                aborted++;
+            }
+        }
+        return aborted;
+    }
+
+    private static final class Request {
+        private final String method;
+        private final String url;
+        private final CompletableFuture<?> future;
+        private final Thread thread = Thread.currentThread();
+        private final String scenario = StepContext.getScenario();
+        private final long startNanos = System.nanoTime();
+
+        private Request(String method, String url, CompletableFuture<?> future) {
+            this.method = method;
+            this.url = url;
+            this.future = future;
+        }
+    }
+}
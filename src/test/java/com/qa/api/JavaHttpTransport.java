@@ -0,0 +1,80 @@
+package com.qa.api;
+
+import com.qa.api.models.HttpResult;
+import com.qa.common.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * HttpTransport built on java.net.http.HttpClient
+ * A single shared client negotiates HTTP/2 where the server supports it, so concurrent
+ * requests are multiplexed over few connections, and accepts gzip-compressed bodies
+ */
+public class JavaHttpTransport implements HttpTransport {
+    private static final Logger logger = LoggerFactory.getLogger(JavaHttpTransport.class);
+    private static JavaHttpTransport instance;
+    private final HttpClient client;
+
+    private JavaHttpTransport() {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofMillis(ConfigManager.getInstance().getApiConnectTimeout()))
+                .build();
+    }
+
+    public static synchronized JavaHttpTransport getInstance() {
+        if (instance == null) {
+            instance = new JavaHttpTransport();
+        }
+        return instance;
+    }
+
+    @Override
+    public CompletableFuture<HttpResult> sendAsync(String method, String url, Map<String, String> headers, String body,
+                                                   Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body))
+                .header("Accept-Encoding", "gzip")
+                .timeout(timeout);
+        headers.forEach(builder::header);
+
+        long start = System.nanoTime();
+        logger.debug("{} {} (async)", method, url);
+        return client.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> new HttpResult(method, url, response.statusCode(),
+                        response.headers().map(), decode(response), response.version().name(),
+                        (System.nanoTime() - start) / 1_000_000))
+                // The request timeout only covers the response headers; this also bounds the body
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static byte[] decode(HttpResponse<byte[]> response) {
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        if (!gzip) {
+            return response.body();
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress gzip response", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.qa.api;
+
+import com.qa.api.models.HttpResult;
+import com.qa.common.ConfigManager;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpTransport running blocking REST Assured calls on a small worker pool
+ * Kept as a fallback for environments where java.net.http cannot be used
+ */
+public class RestAssuredTransport implements HttpTransport {
+    private static RestAssuredTransport instance;
+    private final ExecutorService executor = Executors.newFixedThreadPool(4, r -> {
+        Thread thread = new Thread(r, "rest-assured-transport");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private RestAssuredTransport() {
+    }
+
+    public static synchronized RestAssuredTransport getInstance() {
+        if (instance == null) {
+            instance = new RestAssuredTransport();
+        }
+        return instance;
+    }
+
+    @Override
+    public CompletableFuture<HttpResult> sendAsync(String method, String url, Map<String, String> headers, String body,
+                                                   Duration timeout) {
+        return CompletableFuture.supplyAsync(() -> {
+            RequestSpecification request = RestAssured.given()
+                    .config(timeoutConfig(timeout))
+                    .headers(headers);
+            if (body != null) {
+                request.body(body);
+            }
+            Response response = request.request(method, url);
+
+            Map<String, List<String>> responseHeaders = new LinkedHashMap<>();
+            for (Header header : response.getHeaders()) {
+                responseHeaders.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+            }
+            return new HttpResult(method, url, response.getStatusCode(), responseHeaders,
+                    response.asByteArray(), response.getStatusLine().split(" ")[0], response.getTime());
+        }, executor).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * REST Assured config with connect and socket timeouts, both capped to the given timeout
+     */
+    static RestAssuredConfig timeoutConfig(Duration timeout) {
+        int readTimeout = (int) Math.max(1, timeout.toMillis());
+        int connectTimeout = Math.min(readTimeout, ConfigManager.getInstance().getApiConnectTimeout());
+        return RestAssured.config().httpClient(HttpClientConfig.httpClientConfig()
+                .setParam("http.connection.timeout", connectTimeout)
+                .setParam("http.socket.timeout", readTimeout)
+                .setParam("http.connection-manager.timeout", (long) connectTimeout));
+    }
+}
@@ -0,0 +1,175 @@
+package com.qa.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates every element of a JSON array by streaming over the response body token by token
+ * Only the fields of the current element are inspected, so memory stays bounded by element size
+ * (plus the set of seen values when uniqueness is checked) and the first violation fails immediately
+ */
+public class StreamingCollectionValidator {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingCollectionValidator.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String arrayField;
+    private final Map<String, Integer> requiredFields = new LinkedHashMap<>();
+    private final Map<String, double[]> ranges = new HashMap<>();
+    private String uniqueField;
+    private long minCount = 0;
+    private long maxCount = Long.MAX_VALUE;
+
+    /**
+     * @param arrayField top-level field holding the array, or null when the body is the array itself
+     */
+    public StreamingCollectionValidator(String arrayField) {
+        this.arrayField = arrayField;
+    }
+
+    public StreamingCollectionValidator requireFields(String... fields) {
+        for (String field : fields) {
+            requiredFields.putIfAbsent(field, requiredFields.size());
+        }
+        return this;
+    }
+
+    public StreamingCollectionValidator requireFields(List<String> fields) {
+        return requireFields(fields.toArray(new String[0]));
+    }
+
+    public StreamingCollectionValidator requireUnique(String field) {
+        this.uniqueField = field;
+        return this;
+    }
+
+    /**
+     * Requires the field, when present and not null, to be a JSON number within min and max inclusive
+     */
+    public StreamingCollectionValidator requireRange(String field, double min, double max) {
+        ranges.put(field, new double[]{min, max});
+        return this;
+    }
+
+    public StreamingCollectionValidator requireCountBetween(long min, long max) {
+        this.minCount = min;
+        this.maxCount = max;
+        return this;
+    }
+
+    /**
+     * Streams the body and returns the number of elements; throws AssertionError on the first violation
+     */
+    public long validate(InputStream body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (!moveToArray(parser)) {
+                throw new AssertionError("No array found at '" + (arrayField == null ? "$" : arrayField) + "'");
+            }
+
+            Set<String> seenValues = new HashSet<>();
+            long count = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw violation(count, "element is not an object but " + token);
+                }
+                validateElement(parser, count, seenValues);
+                count++;
+                if (count > maxCount) {
+                    throw new AssertionError("Expected at most " + maxCount + " elements but found more");
+                }
+            }
+
+            if (count < minCount) {
+                throw new AssertionError("Expected at least " + minCount + " elements but found " + count);
+            }
+            logger.debug("Streamed and validated {} elements", count);
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read response body", e);
+        }
+    }
+
+    private void validateElement(JsonParser parser, long index, Set<String> seenValues) throws IOException {
+        boolean[] present = new boolean[requiredFields.size()];
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            Integer required = requiredFields.get(field);
+            if (required != null) {
+                present[required] = true;
+            }
+            // The token type is part of the key, so the number 1 and the string "1" are different values
+            if (field.equals(uniqueField) && value.isScalarValue()
+                    && !seenValues.add(value.id() + ":" + parser.getText())) {
+                throw violation(index, "duplicate " + field + " '" + parser.getText() + "'");
+            }
+            double[] range = ranges.get(field);
+            if (range != null && value != JsonToken.VALUE_NULL) {
+                checkRange(parser, value, field, range, index);
+            }
+            if (value.isStructStart()) {
+                parser.skipChildren();
+            }
+        }
+
+        for (Map.Entry<String, Integer> field : requiredFields.entrySet()) {
+            if (!present[field.getValue()]) {
+                throw violation(index, "missing required field '" + field.getKey() + "'");
+            }
+        }
+    }
+
+    private void checkRange(JsonParser parser, JsonToken value, String field, double[] range, long index)
+            throws IOException {
+        if (!value.isNumeric()) {
+            throw violation(index, field + " '" + parser.getText() + "' is not numeric but " + value);
+        }
+        double number = parser.getDoubleValue();
+        if (number < range[0] || number > range[1]) {
+            throw violation(index, String.format("%s %s is outside [%s, %s]", field, parser.getText(),
+                    range[0], range[1]));
+        }
+    }
+
+    private boolean moveToArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (arrayField == null) {
+            return token == JsonToken.START_ARRAY;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            token = parser.nextToken();
+            if (arrayField.equals(field)) {
+                return token == JsonToken.START_ARRAY;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private AssertionError violation(long index, String message) {
+        return new AssertionError("Element [" + index + "] of '" + (arrayField == null ? "$" : arrayField) + "': "
+                + message
+                + (requiredFields.isEmpty() ? "" : " (required fields " + Arrays.toString(
+                requiredFields.keySet().toArray()) + ")"));
+    }
+}
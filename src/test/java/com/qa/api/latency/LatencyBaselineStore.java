@@ -0,0 +1,71 @@
+package com.qa.api.latency;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads and writes latency samples as JSON: {"GET /cars": [120, 98, ...], ...}
+ * The baseline keeps the most recent samples per endpoint, up to a configured maximum
+ */
+public class LatencyBaselineStore {
+    private static final Logger logger = LoggerFactory.getLogger(LatencyBaselineStore.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final TypeReference<TreeMap<String, List<Long>>> SAMPLES_TYPE = new TypeReference<>() {
+    };
+
+    private LatencyBaselineStore() {
+    }
+
+    /**
+     * Loads samples from the file, or returns an empty map when it does not exist
+     */
+    public static Map<String, List<Long>> load(Path file) {
+        if (!Files.exists(file)) {
+            return new TreeMap<>();
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), SAMPLES_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read latency samples: " + file, e);
+        }
+    }
+
+    public static void save(Path file, Map<String, List<Long>> samples) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            objectMapper.writeValue(file.toFile(), new TreeMap<>(samples));
+            logger.info("Latency samples for {} endpoints written to {}", samples.size(), file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write latency samples: " + file, e);
+        }
+    }
+
+    /**
+     * Appends the current samples to the baseline, keeping the newest maxSamples per endpoint
+     */
+    public static Map<String, List<Long>> merge(Map<String, List<Long>> baseline, Map<String, List<Long>> current,
+                                                int maxSamples) {
+        Map<String, List<Long>> merged = new TreeMap<>();
+        baseline.forEach((endpoint, values) -> merged.put(endpoint, new ArrayList<>(values)));
+        current.forEach((endpoint, values) -> merged.computeIfAbsent(endpoint, key -> new ArrayList<>()).addAll(values));
+        merged.replaceAll((endpoint, values) -> values.size() <= maxSamples
+                ? values
+                : new ArrayList<>(values.subList(values.size() - maxSamples, values.size())));
+        return merged;
+    }
+}
@@ -0,0 +1,45 @@
+package com.qa.api.latency;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects API response times of the current run, per method and endpoint template
+ * such as "GET /cars/{id}"
+ */
+public class LatencyRecorder {
+    private static LatencyRecorder instance;
+    private final Map<String, List<Long>> samples = new ConcurrentHashMap<>();
+
+    private LatencyRecorder() {
+    }
+
+    public static synchronized LatencyRecorder getInstance() {
+        if (instance == null) {
+            instance = new LatencyRecorder();
+        }
+        return instance;
+    }
+
+    public void record(String method, String endpointTemplate, long millis) {
+        samples.computeIfAbsent(method + " " + endpointTemplate, key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(millis);
+    }
+
+    /**
+     * Returns a copy of the samples recorded so far, sorted by endpoint
+     */
+    public Map<String, List<Long>> getSamples() {
+        Map<String, List<Long>> copy = new TreeMap<>();
+        samples.forEach((endpoint, values) -> {
+            synchronized (values) {
+                copy.put(endpoint, new ArrayList<>(values));
+            }
+        });
+        return copy;
+    }
+}
@@ -0,0 +1,193 @@
+package com.qa.api.latency;
+
+import com.qa.common.ConfigManager;
+import com.qa.common.Percentiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the run's API latencies with the stored baseline
+ * An endpoint regresses when a one-sided Mann-Whitney U test finds its latencies
+ * significantly higher (p below latency.gate.alpha) and its median grew by more
+ * than latency.gate.max.increase and latency.gate.min.increase.ms; both samples
+ * need latency.gate.min.samples, or the endpoint's entry in latency.gate.min.samples.overrides
+ */
+public class LatencyRegressionGate {
+    private static final Logger logger = LoggerFactory.getLogger(LatencyRegressionGate.class);
+    private static final String REPORT_PATH = "target/reports/latency-comparison.txt";
+    private static Map<String, List<Long>> baselineAtStart;
+
+    private LatencyRegressionGate() {
+    }
+
+    /**
+     * Writes the current samples, updates the baseline when requested and, with
+     * latency.gate enabled, fails on regressions. Safe to call once per suite in the same JVM.
+     */
+    public static synchronized void finishRun() {
+        ConfigManager config = ConfigManager.getInstance();
+        Path baselinePath = Paths.get(config.getLatencyBaselinePath());
+        if (baselineAtStart == null) {
+            baselineAtStart = LatencyBaselineStore.load(baselinePath);
+        }
+
+        Map<String, List<Long>> current = LatencyRecorder.getInstance().getSamples();
+        if (current.isEmpty()) {
+            return;
+        }
+        LatencyBaselineStore.save(Paths.get(config.getLatencyCurrentPath()), current);
+
+        if (config.shouldUpdateLatencyBaseline()) {
+            LatencyBaselineStore.save(baselinePath, LatencyBaselineStore.merge(baselineAtStart, current,
+                    config.getLatencyBaselineMaxSamples()));
+        }
+
+        if (config.isLatencyGateEnabled()) {
+            if (baselineAtStart.isEmpty()) {
+                String message = "latency.gate is enabled but there is no baseline at " + baselinePath
+                        + "; record one against a healthy environment with -Dlatency.baseline.update=true";
+                if (config.shouldUpdateLatencyBaseline()) {
+                    logger.warn(message);
+                    return;
+                }
+                throw new AssertionError(message);
+            }
+            List<String> regressions = compare(baselineAtStart, current, config);
+            if (!regressions.isEmpty()) {
+                throw new AssertionError("API latency regression against " + baselinePath + ": "
+                        + String.join("; ", regressions));
+            }
+        }
+    }
+
+    private static List<String> compare(Map<String, List<Long>> baseline, Map<String, List<Long>> current,
+                                        ConfigManager config) {
+        List<String> regressions = new ArrayList<>();
+        List<String> rows = new ArrayList<>();
+        rows.add(String.format("%-24s %8s %8s %8s %8s %8s %9s %9s  %s", "Endpoint", "Base n", "Base p50",
+                "Base p95", "Run n", "Run p50", "Run p95", "p-value", "Verdict"));
+
+        for (Map.Entry<String, List<Long>> entry : current.entrySet()) {
+            String endpoint = entry.getKey();
+            long[] run = sorted(entry.getValue());
+            long[] base = sorted(baseline.getOrDefault(endpoint, List.of()));
+
+            String verdict;
+            double pValue = Double.NaN;
+            int minSamples = config.getLatencyGateMinSamples(endpoint);
+            if (base.length < minSamples || run.length < minSamples) {
+                verdict = "not enough samples";
+                logger.warn("Latency of {} not gated: {} baseline and {} run samples, {} needed", endpoint,
+                        base.length, run.length, minSamples);
+            } else {
+                pValue = mannWhitneyGreaterPValue(base, run);
+                double increaseMillis = Percentiles.ofSorted(run, 50) - Percentiles.ofSorted(base, 50);
+                double increase = increaseMillis / Math.max(1.0, Percentiles.ofSorted(base, 50));
+                boolean regressed = pValue < config.getLatencyGateAlpha()
+                        && increase > config.getLatencyGateMaxIncrease()
+                        && increaseMillis > config.getLatencyGateMinIncreaseMillis();
+                verdict = String.format("%s (median %+.0f%%)", regressed ? "REGRESSION" : "ok", increase * 100);
+                if (regressed) {
+                    regressions.add(String.format("%s median %.0f ms -> %.0f ms (p=%.4f)", endpoint,
+                            Percentiles.ofSorted(base, 50), Percentiles.ofSorted(run, 50), pValue));
+                }
+            }
+            rows.add(String.format("%-24s %8d %8.0f %8.0f %8d %8.0f %9.0f %9.4f  %s", endpoint, base.length,
+                    Percentiles.ofSorted(base, 50), Percentiles.ofSorted(base, 95), run.length, Percentiles.ofSorted(run, 50),
+                    Percentiles.ofSorted(run, 95), pValue, verdict));
+        }
+
+        writeReport(rows);
+        return regressions;
+    }
+
+    /**
+     * One-sided p-value for "current latencies are stochastically greater than the baseline",
+     * using the normal approximation with tie and continuity correction
+     */
+    static double mannWhitneyGreaterPValue(long[] baseline, long[] current) {
+        int n1 = current.length;
+        int n2 = baseline.length;
+        int n = n1 + n2;
+        long[] values = new long[n];
+        boolean[] fromCurrent = new boolean[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i < n1 ? current[i] : baseline[i - n1];
+            fromCurrent[i] = i < n1;
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(values[a], values[b]));
+
+        double rankSumCurrent = 0;
+        double tieTerm = 0;
+        for (int start = 0; start < n; ) {
+            int end = start;
+            while (end + 1 < n && values[order[end + 1]] == values[order[start]]) {
+                end++;
+            }
+            double averageRank = (start + end) / 2.0 + 1;
+            for (int i = start; i <= end; i++) {
+                if (fromCurrent[order[i]]) {
+                    rankSumCurrent += averageRank;
+                }
+            }
+            long ties = end - start + 1;
+            tieTerm += ties * ties * ties - ties;
+            start = end + 1;
+        }
+
+        double u = rankSumCurrent - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1.0 - normalCdf(z);
+    }
+
+    private static double normalCdf(double z) {
+        return 0.5 * (1.0 + erf(z / Math.sqrt(2.0)));
+    }
+
+    /**
+     * Abramowitz and Stegun 7.1.26, absolute error below 1.5e-7
+     */
+    private static double erf(double x) {
+        double t = 1.0 / (1.0 + 0.3275911 * Math.abs(x));
+        double y = 1.0 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027
+                + t * 1.061405429)))) * Math.exp(-x * x);
+        return x >= 0 ? y : -y;
+    }
+
+    private static long[] sorted(List<Long> values) {
+        long[] array = values.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    private static void writeReport(List<String> rows) {
+        Path path = Paths.get(REPORT_PATH);
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+                rows.forEach(out::println);
+            }
+            rows.forEach(logger::info);
+        } catch (IOException e) {
+            logger.warn("Failed to write latency comparison report: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.qa.api.models;
+
+import io.restassured.path.json.JsonPath;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transport-independent HTTP response returned by the asynchronous API methods
+ */
+public class HttpResult {
+    private final String method;
+    private final String url;
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final String protocol;
+    private final long durationMillis;
+
+    public HttpResult(String method, String url, int statusCode, Map<String, List<String>> headers,
+                      byte[] body, String protocol, long durationMillis) {
+        this.method = method;
+        this.url = url;
+        this.statusCode = statusCode;
+        this.headers = Collections.unmodifiableMap(headers);
+        this.body = body;
+        this.protocol = protocol;
+        this.durationMillis = durationMillis;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    public String getHeader(String name) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String asString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    public InputStream asInputStream() {
+        return new ByteArrayInputStream(body);
+    }
+
+    public JsonPath jsonPath() {
+        return new JsonPath(asString());
+    }
+
+    /**
+     * Negotiated protocol, e.g. HTTP_2 or HTTP_1_1
+     */
+    public String getProtocol() {
+        return protocol;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "HttpResult{" +
+                "method='" + method + '\'' +
+                ", url='" + url + '\'' +
+                ", statusCode=" + statusCode +
+                ", protocol='" + protocol + '\'' +
+                ", bodyBytes=" + body.length +
+                ", durationMillis=" + durationMillis +
+                '}';
+    }
+}
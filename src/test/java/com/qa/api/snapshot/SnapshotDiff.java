@@ -0,0 +1,148 @@
+package com.qa.api.snapshot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Structural diff of two canonical snapshot trees
+ * Branches whose subtree hashes are equal are skipped without being visited. Arrays of
+ * objects that all carry the key field are matched by that key, so an inserted car
+ * shows up as one addition rather than a shift of every following element.
+ * Lines look like "~ $.cars[id=3].price: 100 -> 120", "+ $.cars[id=9]: {...}" or "- $.cars[id=4]"
+ */
+public class SnapshotDiff {
+    private static final int PREVIEW_LENGTH = 80;
+    private final SnapshotTree expected;
+    private final SnapshotTree actual;
+    private final String keyField;
+    private final int maxLines;
+    private final List<String> lines = new ArrayList<>();
+    private int omitted;
+    private int visitedNodes;
+
+    SnapshotDiff(SnapshotTree expected, SnapshotTree actual, String keyField, int maxLines) {
+        this.expected = expected;
+        this.actual = actual;
+        this.keyField = keyField;
+        this.maxLines = maxLines;
+    }
+
+    List<String> compute() {
+        compare("$", expected.getRoot(), actual.getRoot());
+        if (omitted > 0) {
+            lines.add("... " + omitted + " more difference(s)");
+        }
+        return lines;
+    }
+
+    /**
+     * Nodes compared during the walk; with few changes this stays far below the tree size
+     */
+    int getVisitedNodes() {
+        return visitedNodes;
+    }
+
+    private void compare(String path, JsonNode left, JsonNode right) {
+        visitedNodes++;
+        if (expected.hashOf(left) == actual.hashOf(right)) {
+            return;
+        }
+        if (left.isObject() && right.isObject()) {
+            compareObjects(path, left, right);
+        } else if (left.isArray() && right.isArray()) {
+            if (isKeyed(left) && isKeyed(right)) {
+                compareKeyedArrays(path, left, right);
+            } else {
+                compareIndexedArrays(path, left, right);
+            }
+        } else {
+            add("~ " + path + ": " + SnapshotTree.preview(left, PREVIEW_LENGTH) + " -> "
+                    + SnapshotTree.preview(right, PREVIEW_LENGTH));
+        }
+    }
+
+    private void compareObjects(String path, JsonNode left, JsonNode right) {
+        TreeSet<String> names = new TreeSet<>();
+        left.fieldNames().forEachRemaining(names::add);
+        right.fieldNames().forEachRemaining(names::add);
+        for (String name : names) {
+            String childPath = path + "." + name;
+            if (!right.has(name)) {
+                add("- " + childPath);
+            } else if (!left.has(name)) {
+                add("+ " + childPath + ": " + SnapshotTree.preview(right.get(name), PREVIEW_LENGTH));
+            } else {
+                compare(childPath, left.get(name), right.get(name));
+            }
+        }
+    }
+
+    private void compareKeyedArrays(String path, JsonNode left, JsonNode right) {
+        Map<String, JsonNode> rightByKey = byKey(right);
+        Map<String, JsonNode> leftByKey = byKey(left);
+        for (Map.Entry<String, JsonNode> entry : leftByKey.entrySet()) {
+            String childPath = path + "[" + keyField + "=" + entry.getKey() + "]";
+            JsonNode match = rightByKey.get(entry.getKey());
+            if (match == null) {
+                add("- " + childPath);
+            } else {
+                compare(childPath, entry.getValue(), match);
+            }
+        }
+        for (Map.Entry<String, JsonNode> entry : rightByKey.entrySet()) {
+            if (!leftByKey.containsKey(entry.getKey())) {
+                add("+ " + path + "[" + keyField + "=" + entry.getKey() + "]: "
+                        + SnapshotTree.preview(entry.getValue(), PREVIEW_LENGTH));
+            }
+        }
+    }
+
+    private void compareIndexedArrays(String path, JsonNode left, JsonNode right) {
+        int common = Math.min(left.size(), right.size());
+        for (int i = 0; i < common; i++) {
+            compare(path + "[" + i + "]", left.get(i), right.get(i));
+        }
+        for (int i = common; i < left.size(); i++) {
+            add("- " + path + "[" + i + "]");
+        }
+        for (int i = common; i < right.size(); i++) {
+            add("+ " + path + "[" + i + "]: " + SnapshotTree.preview(right.get(i), PREVIEW_LENGTH));
+        }
+    }
+
+    private boolean isKeyed(JsonNode array) {
+        if (keyField == null || keyField.isEmpty() || array.size() == 0) {
+            return false;
+        }
+        Iterator<JsonNode> elements = array.elements();
+        while (elements.hasNext()) {
+            JsonNode element = elements.next();
+            if (!element.isObject() || !element.hasNonNull(keyField)) {
+                return false;
+            }
+        }
+        return byKey(array).size() == array.size();
+    }
+
+    private Map<String, JsonNode> byKey(JsonNode array) {
+        Map<String, JsonNode> elements = new LinkedHashMap<>();
+        for (JsonNode element : array) {
+            elements.put(element.get(keyField).asText(), element);
+        }
+        return elements;
+    }
+
+    private void add(String line) {
+        if (lines.size() < maxLines) {
+            lines.add(line);
+        } else {
+            omitted++;
+        }
+    }
+}
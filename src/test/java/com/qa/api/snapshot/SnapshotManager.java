@@ -0,0 +1,111 @@
+package com.qa.api.snapshot;
+
+import com.qa.common.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stores golden API snapshots and checks responses against them
+ * Golden files hold the canonical form of a response, so an unchanged response is
+ * confirmed by a byte comparison without parsing the golden file. A missing golden file fails
+ * the check unless snapshot.update is set. The received snapshot, and on a mismatch the structural
+ * diff, are written to the output directory, where run-tests.sh approve-snapshots picks them up.
+ */
+public class SnapshotManager {
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotManager.class);
+    private static final String RECEIVED_SUFFIX = ".received.json";
+    private static SnapshotManager instance;
+    private final Path snapshotDir;
+    private final Path outputDir;
+    private final boolean updateSnapshots;
+    private final Set<String> ignoredFields;
+    private final String keyField;
+    private final int maxDiffLines;
+
+    private SnapshotManager() {
+        ConfigManager config = ConfigManager.getInstance();
+        this.snapshotDir = Paths.get(config.getSnapshotPath());
+        this.outputDir = Paths.get(config.getSnapshotOutputPath());
+        this.updateSnapshots = config.shouldUpdateSnapshots();
+        this.ignoredFields = new HashSet<>(config.getSnapshotIgnoredFields());
+        this.keyField = config.getSnapshotKeyField();
+        this.maxDiffLines = config.getSnapshotDiffMaxLines();
+    }
+
+    public static synchronized SnapshotManager getInstance() {
+        if (instance == null) {
+            instance = new SnapshotManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Checks a JSON body against the golden snapshot, ignoring the configured fields
+     * and any extra field names given
+     */
+    public SnapshotResult check(String name, byte[] json, List<String> extraIgnoredFields) {
+        long start = System.nanoTime();
+        String baseName = name.replaceAll("[^a-zA-Z0-9_-]", "_");
+        Path goldenFile = snapshotDir.resolve(baseName + ".json");
+        Set<String> ignored = new HashSet<>(ignoredFields);
+        ignored.addAll(extraIgnoredFields);
+
+        try {
+            SnapshotTree received = SnapshotTree.parse(json, ignored);
+            byte[] receivedBytes = received.toBytes();
+
+            if (updateSnapshots) {
+                Files.createDirectories(snapshotDir);
+                Files.write(goldenFile, receivedBytes);
+                logger.warn("API snapshot recorded: {}", goldenFile);
+                return new SnapshotResult(true, "Snapshot recorded", new ArrayList<>(), elapsedSince(start));
+            }
+            if (!Files.exists(goldenFile)) {
+                Files.createDirectories(outputDir);
+                Files.write(outputDir.resolve(baseName + RECEIVED_SUFFIX), receivedBytes);
+                logger.error("API snapshot missing: {}", goldenFile);
+                return new SnapshotResult(false, "No golden file at " + goldenFile
+                        + "; review the received snapshot and run: ./run-tests.sh approve-snapshots " + baseName,
+                        new ArrayList<>(), elapsedSince(start));
+            }
+
+            byte[] goldenBytes = Files.readAllBytes(goldenFile);
+            if (Arrays.equals(goldenBytes, receivedBytes)) {
+                return new SnapshotResult(true, "Identical", new ArrayList<>(), elapsedSince(start));
+            }
+
+            // Re-canonicalised so golden files written with other ignored fields or by hand still compare
+            SnapshotTree golden = SnapshotTree.parse(goldenBytes, ignored);
+            SnapshotDiff diff = new SnapshotDiff(golden, received, keyField, maxDiffLines);
+            List<String> differences = diff.compute();
+            SnapshotResult result = differences.isEmpty()
+                    ? new SnapshotResult(true, "Equivalent", differences, elapsedSince(start))
+                    : new SnapshotResult(false, differences.size() + " difference(s)", differences, elapsedSince(start));
+            logger.info("API snapshot '{}': {} ({} nodes compared)", name, result, diff.getVisitedNodes());
+
+            if (!result.matches()) {
+                Files.createDirectories(outputDir);
+                Files.write(outputDir.resolve(baseName + RECEIVED_SUFFIX), receivedBytes);
+                Files.write(outputDir.resolve(baseName + ".diff.txt"), differences, StandardCharsets.UTF_8);
+            }
+            return result;
+        } catch (IOException e) {
+            throw new RuntimeException("Snapshot check failed for " + name, e);
+        }
+    }
+
+    private static long elapsedSince(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
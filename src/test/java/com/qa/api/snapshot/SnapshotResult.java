@@ -0,0 +1,50 @@
+package com.qa.api.snapshot;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of checking a response against its golden snapshot
+ */
+public class SnapshotResult {
+    private final boolean matches;
+    private final String reason;
+    private final List<String> differences;
+    private final long elapsedMillis;
+
+    SnapshotResult(boolean matches, String reason, List<String> differences, long elapsedMillis) {
+        this.matches = matches;
+        this.reason = reason;
+        this.differences = Collections.unmodifiableList(differences);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public boolean matches() {
+        return matches;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Structural differences, one per line, empty when the snapshot matches
+     */
+    public List<String> getDifferences() {
+        return differences;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotResult{" +
+                "matches=" + matches +
+                ", reason='" + reason + '\'' +
+                ", differences=" + differences.size() +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
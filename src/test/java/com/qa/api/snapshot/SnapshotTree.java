@@ -0,0 +1,141 @@
+package com.qa.api.snapshot;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Canonical form of a JSON document with a hash for every subtree
+ * Object keys are sorted, numbers normalised (25000.0 and 25000 are equal) and ignored
+ * fields removed, so equal documents serialise to identical bytes. Subtree hashes let
+ * comparisons skip every branch that did not change.
+ */
+public class SnapshotTree {
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final JsonNode root;
+    private final Map<JsonNode, Long> hashes = new IdentityHashMap<>();
+
+    private SnapshotTree(JsonNode root) {
+        this.root = root;
+        hash(root);
+    }
+
+    public static SnapshotTree parse(byte[] json, Set<String> ignoredFields) {
+        try {
+            return new SnapshotTree(canonicalize(objectMapper.readTree(json), ignoredFields));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Snapshot content is not valid JSON", e);
+        }
+    }
+
+    public JsonNode getRoot() {
+        return root;
+    }
+
+    public long hashOf(JsonNode node) {
+        return node.isContainerNode() ? hashes.get(node) : valueHash(node);
+    }
+
+    /**
+     * Serialises the canonical tree; equal documents give identical bytes
+     */
+    public byte[] toBytes() {
+        try {
+            return objectMapper.writeValueAsBytes(root);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialise snapshot", e);
+        }
+    }
+
+    static String preview(JsonNode node, int maxLength) {
+        String text = node.toString();
+        return text.length() <= maxLength ? text : text.substring(0, maxLength - 3) + "...";
+    }
+
+    private static JsonNode canonicalize(JsonNode node, Set<String> ignoredFields) {
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            Collections.sort(names);
+            ObjectNode sorted = factory.objectNode();
+            for (String name : names) {
+                if (!ignoredFields.contains(name)) {
+                    sorted.set(name, canonicalize(node.get(name), ignoredFields));
+                }
+            }
+            return sorted;
+        }
+        if (node.isArray()) {
+            ArrayNode array = factory.arrayNode(node.size());
+            for (JsonNode element : node) {
+                array.add(canonicalize(element, ignoredFields));
+            }
+            return array;
+        }
+        if (node.isNumber() && !node.isIntegralNumber()) {
+            BigDecimal number = node.decimalValue().stripTrailingZeros();
+            return number.scale() <= 0 ? factory.numberNode(number.toBigIntegerExact()) : factory.numberNode(number);
+        }
+        return node;
+    }
+
+    private long hash(JsonNode node) {
+        long hash;
+        if (node.isObject()) {
+            hash = fnv(FNV_OFFSET, "{");
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                hash = mix(fnv(hash, field.getKey()), hash(field.getValue()));
+            }
+        } else if (node.isArray()) {
+            hash = fnv(FNV_OFFSET, "[");
+            for (JsonNode element : node) {
+                hash = mix(hash, hash(element));
+            }
+        } else {
+            return valueHash(node);
+        }
+        hashes.put(node, hash);
+        return hash;
+    }
+
+    private static long valueHash(JsonNode node) {
+        return fnv(fnv(FNV_OFFSET, node.getNodeType().name()), node.asText());
+    }
+
+    private static long fnv(long hash, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long child) {
+        long z = (hash ^ child) * 0x9E3779B97F4A7C15L;
+        return z ^ (z >>> 31);
+    }
+}
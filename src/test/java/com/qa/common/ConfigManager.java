@@ -5,6 +5,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -60,6 +62,77 @@ public class ConfigManager {
         return getProperty("api.base.url");
     }
 
+    public int getApiTimeout() {
+        return Integer.parseInt(getProperty("api.timeout", "60000"));
+    }
+
+    public int getApiConnectTimeout() {
+        return Integer.parseInt(getProperty("api.connect.timeout", "10000"));
+    }
+
+    public int getApiRetryAttempts() {
+        return Integer.parseInt(getProperty("api.retry.attempts", "2"));
+    }
+
+    public long getApiRetryBackoffMillis() {
+        return Long.parseLong(getProperty("api.retry.backoff.ms", "200"));
+    }
+
+    public long getApiRetryBackoffMaxMillis() {
+        return Long.parseLong(getProperty("api.retry.backoff.max.ms", "2000"));
+    }
+
+    public boolean isApiCircuitBreakerEnabled() {
+        return Boolean.parseBoolean(getProperty("api.circuit.enabled", "true"));
+    }
+
+    public int getApiCircuitFailureThreshold() {
+        return Integer.parseInt(getProperty("api.circuit.failure.threshold", "5"));
+    }
+
+    public long getApiCircuitOpenSeconds() {
+        return Long.parseLong(getProperty("api.circuit.open.seconds", "30"));
+    }
+
+    /**
+     * True to skip API scenarios while the circuit is open, false to fail them
+     */
+    public boolean isSkipWhenApiUnavailable() {
+        return !"fail".equalsIgnoreCase(getProperty("api.circuit.mode", "skip"));
+    }
+
+    public boolean isApiHealthGateEnabled() {
+        return Boolean.parseBoolean(getProperty("api.health.gate", "false"));
+    }
+
+    public String getApiHealthGateEndpoint() {
+        return getProperty("api.health.gate.endpoint", "/health-check");
+    }
+
+    public long getScenarioBudgetSeconds() {
+        return Long.parseLong(getProperty("scenario.budget.seconds", "0"));
+    }
+
+    public boolean isProxyEnabled() {
+        return Boolean.parseBoolean(getProperty("proxy.enabled", "false"));
+    }
+
+    public int getProxyPort() {
+        return Integer.parseInt(getProperty("proxy.port", "0"));
+    }
+
+    public String getProxyProfile() {
+        return getProperty("proxy.profile", "none");
+    }
+
+    public long getProxySeed() {
+        return Long.parseLong(getProperty("proxy.seed", "42"));
+    }
+
+    public String getApiTransport() {
+        return getProperty("api.transport", "java-http");
+    }
+
     public String getBrowser() {
         return getProperty("browser", "chrome");
     }
@@ -80,6 +153,342 @@ public class ConfigManager {
         return Integer.parseInt(getProperty("explicit.wait", "20"));
     }
 
+    public List<String> getBrowserMatrix() {
+        List<String> browsers = new ArrayList<>();
+        for (String browser : getProperty("browser.matrix", "chrome,firefox,edge").split(",")) {
+            if (!browser.trim().isEmpty()) {
+                browsers.add(browser.trim().toLowerCase());
+            }
+        }
+        return browsers;
+    }
+
+    public String getBrowserMatrixTags() {
+        return getProperty("browser.matrix.tags", "@ui and not @visual");
+    }
+
+    /**
+     * True while CrossBrowserMatrixRunner runs several browsers concurrently in this JVM
+     */
+    public boolean isBrowserMatrixRun() {
+        return Boolean.parseBoolean(getProperty("browser.matrix.active", "false"));
+    }
+
+    public String getBrowserIsolation() {
+        return getProperty("browser.isolation", "quit");
+    }
+
+    public boolean isSessionResetIsolation() {
+        return "reset".equalsIgnoreCase(getBrowserIsolation());
+    }
+
+    public int getBrowserMaxReuse() {
+        return Integer.parseInt(getProperty("browser.max.reuse", "20"));
+    }
+
+    public boolean isDriverCommandTrackingEnabled() {
+        return Boolean.parseBoolean(getProperty("driver.command.tracking", "true"));
+    }
+
+    public int getDriverCommandStepBudget() {
+        return Integer.parseInt(getProperty("driver.command.step.budget", "0"));
+    }
+
+    public int getDriverCommandReportSize() {
+        return Integer.parseInt(getProperty("driver.command.report.top", "10"));
+    }
+
+    public boolean isJfrRecordingEnabled() {
+        return Boolean.parseBoolean(getProperty("jfr.recording", "false"));
+    }
+
+    public String getJfrPath() {
+        return getProperty("jfr.path", "target/jfr");
+    }
+
+    public String getJfrSettings() {
+        return getProperty("jfr.settings", "default");
+    }
+
+    public String getTestDataPath() {
+        return getProperty("test.data.path", "src/test/resources/testdata");
+    }
+
+    public String getVisualBaselinePath() {
+        return getProperty("visual.baseline.path", "src/test/resources/visual-baselines");
+    }
+
+    public String getVisualOutputPath() {
+        return getProperty("visual.output.path", "target/visual");
+    }
+
+    public boolean shouldUpdateVisualBaselines() {
+        return Boolean.parseBoolean(getProperty("visual.update.baselines", "false"));
+    }
+
+    public double getVisualTolerance() {
+        return Double.parseDouble(getProperty("visual.tolerance", "0.001"));
+    }
+
+    public int getVisualPixelThreshold() {
+        return Integer.parseInt(getProperty("visual.pixel.threshold", "16"));
+    }
+
+    public int getVisualHashMaxDistance() {
+        return Integer.parseInt(getProperty("visual.hash.max.distance", "12"));
+    }
+
+    public int getVisualTileSize() {
+        return Integer.parseInt(getProperty("visual.tile.size", "64"));
+    }
+
+    public String getSnapshotPath() {
+        return getProperty("snapshot.path", "src/test/resources/snapshots");
+    }
+
+    public String getSnapshotOutputPath() {
+        return getProperty("snapshot.output.path", "target/snapshots");
+    }
+
+    public boolean shouldUpdateSnapshots() {
+        return Boolean.parseBoolean(getProperty("snapshot.update", "false"));
+    }
+
+    public List<String> getSnapshotIgnoredFields() {
+        List<String> fields = new ArrayList<>();
+        for (String field : getProperty("snapshot.ignore.fields", "").split(",")) {
+            if (!field.trim().isEmpty()) {
+                fields.add(field.trim());
+            }
+        }
+        return fields;
+    }
+
+    public String getSnapshotKeyField() {
+        return getProperty("snapshot.key.field", "id");
+    }
+
+    public int getSnapshotDiffMaxLines() {
+        return Integer.parseInt(getProperty("snapshot.diff.max.lines", "50"));
+    }
+
+    public String getCatalogueKeyField() {
+        return getProperty("catalogue.key.field", "name");
+    }
+
+    public List<String> getCatalogueComparedFields() {
+        List<String> fields = new ArrayList<>();
+        for (String field : getProperty("catalogue.compare.fields", "price").split(",")) {
+            if (!field.trim().isEmpty()) {
+                fields.add(field.trim());
+            }
+        }
+        return fields;
+    }
+
+    public int getCatalogueDiffMaxLines() {
+        return Integer.parseInt(getProperty("catalogue.diff.max.lines", "50"));
+    }
+
+    public String getStartupReportPath() {
+        return getProperty("startup.report.path", "target/reports/jvm-startup.csv");
+    }
+
+    public boolean isDaemonMode() {
+        return Boolean.parseBoolean(getProperty("daemon.mode", "false"));
+    }
+
+    public int getDaemonPort() {
+        return Integer.parseInt(getProperty("daemon.port", "7890"));
+    }
+
+    public boolean shouldWarmDaemonBrowser() {
+        return Boolean.parseBoolean(getProperty("daemon.warm.browser", "true"));
+    }
+
+    public long getStepWatchdogSeconds() {
+        return Long.parseLong(getProperty("step.watchdog.seconds", "90"));
+    }
+
+    public long getStepWatchdogCaptureTimeoutSeconds() {
+        return Long.parseLong(getProperty("step.watchdog.capture.timeout.seconds", "5"));
+    }
+
+    public String getStepWatchdogReportPath() {
+        return getProperty("step.watchdog.report.path", "target/reports/watchdog");
+    }
+
+    public boolean isLeakDetectionEnabled() {
+        return Boolean.parseBoolean(getProperty("leak.detection", "true"));
+    }
+
+    public boolean shouldReclaimOrphanedBrowsers() {
+        return Boolean.parseBoolean(getProperty("leak.reclaim.orphans", "true"));
+    }
+
+    public int getLeakThreadThreshold() {
+        return Integer.parseInt(getProperty("leak.threshold.threads", "2"));
+    }
+
+    public int getLeakFdThreshold() {
+        return Integer.parseInt(getProperty("leak.threshold.fds", "20"));
+    }
+
+    public int getLeakHeapThresholdMb() {
+        return Integer.parseInt(getProperty("leak.threshold.heap.mb", "50"));
+    }
+
+    public String getLeakReportPath() {
+        return getProperty("leak.report.path", "target/reports/resource-leaks.txt");
+    }
+
+    public boolean isLatencyRecordingEnabled() {
+        return Boolean.parseBoolean(getProperty("latency.recording", "true"));
+    }
+
+    public String getLatencyBaselinePath() {
+        return getProperty("latency.baseline.path", "src/test/resources/perf/latency-baseline.json");
+    }
+
+    public boolean shouldUpdateLatencyBaseline() {
+        return Boolean.parseBoolean(getProperty("latency.baseline.update", "false"));
+    }
+
+    public int getLatencyBaselineMaxSamples() {
+        return Integer.parseInt(getProperty("latency.baseline.max.samples", "500"));
+    }
+
+    public String getLatencyCurrentPath() {
+        return getProperty("latency.current.path", "target/perf/latency-current.json");
+    }
+
+    public boolean isLatencyGateEnabled() {
+        return Boolean.parseBoolean(getProperty("latency.gate", "false"));
+    }
+
+    public double getLatencyGateAlpha() {
+        return Double.parseDouble(getProperty("latency.gate.alpha", "0.01"));
+    }
+
+    public double getLatencyGateMaxIncrease() {
+        return Double.parseDouble(getProperty("latency.gate.max.increase", "0.20"));
+    }
+
+    public long getLatencyGateMinIncreaseMillis() {
+        return Long.parseLong(getProperty("latency.gate.min.increase.ms", "20"));
+    }
+
+    /**
+     * Returns the samples needed to gate the endpoint, e.g. "GET /health-check", taking
+     * latency.gate.min.samples.overrides into account
+     */
+    public int getLatencyGateMinSamples(String endpoint) {
+        for (String entry : getProperty("latency.gate.min.samples.overrides", "").split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator > 0 && entry.substring(0, separator).trim().equals(endpoint)) {
+                return Integer.parseInt(entry.substring(separator + 1).trim());
+            }
+        }
+        return Integer.parseInt(getProperty("latency.gate.min.samples", "5"));
+    }
+
+    /**
+     * True while SoakRunner repeats scenarios in this JVM
+     */
+    public boolean isSoakRun() {
+        return Boolean.parseBoolean(getProperty("soak.active", "false"));
+    }
+
+    public String getSoakTags() {
+        return getProperty("soak.tags", "@smoke");
+    }
+
+    public List<String> getSoakFeatures() {
+        List<String> features = new ArrayList<>();
+        for (String feature : getProperty("soak.features", "src/test/resources/features").split(",")) {
+            if (!feature.trim().isEmpty()) {
+                features.add(feature.trim());
+            }
+        }
+        return features;
+    }
+
+    public double getSoakDurationMinutes() {
+        return Double.parseDouble(getProperty("soak.duration.minutes", "30"));
+    }
+
+    public double getSoakWindowMinutes() {
+        return Double.parseDouble(getProperty("soak.window.minutes", "5"));
+    }
+
+    public int getSoakSampleSeconds() {
+        return Integer.parseInt(getProperty("soak.sample.seconds", "10"));
+    }
+
+    public int getSoakWarmupWindows() {
+        return Integer.parseInt(getProperty("soak.warmup.windows", "1"));
+    }
+
+    public int getSoakTrendMinWindows() {
+        return Integer.parseInt(getProperty("soak.trend.min.windows", "3"));
+    }
+
+    public double getSoakTrendMinR2() {
+        return Double.parseDouble(getProperty("soak.trend.min.r2", "0.6"));
+    }
+
+    public double getSoakDriftMaxIncrease() {
+        return Double.parseDouble(getProperty("soak.drift.max.increase", "0.20"));
+    }
+
+    public double getSoakHeapMaxGrowthMbPerHour() {
+        return Double.parseDouble(getProperty("soak.heap.max.growth.mb.per.hour", "50"));
+    }
+
+    public double getSoakBrowserMaxGrowthMbPerHour() {
+        return Double.parseDouble(getProperty("soak.browser.max.growth.mb.per.hour", "200"));
+    }
+
+    public String getSoakReportPath() {
+        return getProperty("soak.report.path", "target/reports/soak-report.txt");
+    }
+
+    public String getLoadStages() {
+        return getProperty("load.stages", "30s:5,1m:5,15s:0");
+    }
+
+    public long getLoadThinkTimeMillis() {
+        return Long.parseLong(getProperty("load.think.time.ms", "1000"));
+    }
+
+    public boolean isLoadHeadless() {
+        return Boolean.parseBoolean(getProperty("load.headless", "true"));
+    }
+
+    public double getLoadMaxErrorRate() {
+        return Double.parseDouble(getProperty("load.max.error.rate", "0.05"));
+    }
+
+    public double getLoadMaxJourneyP95Millis() {
+        return Double.parseDouble(getProperty("load.max.journey.p95.ms", "0"));
+    }
+
+    public int getLoadReportIntervalSeconds() {
+        return Integer.parseInt(getProperty("load.report.interval.seconds", "10"));
+    }
+
+    public String getLoadReportPath() {
+        return getProperty("load.report.path", "target/reports/showroom-load.txt");
+    }
+
+    public String getRunManifestPath() {
+        return getProperty("run.manifest.path", "target/manifest/execution-manifest.tsv");
+    }
+
+    public boolean isResumeRun() {
+        return Boolean.parseBoolean(getProperty("run.resume", "false"));
+    }
+
     public boolean shouldTakeScreenshotOnFailure() {
         return Boolean.parseBoolean(getProperty("screenshot.on.failure", "true"));
     }
@@ -0,0 +1,224 @@
+package com.qa.common;
+
+import com.qa.common.jfr.DriverCommandEvent;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * WebDriver listener counting and timing every driver command
+ * Commands are attributed to the Cucumber step running on the calling thread,
+ * which allows reporting the most chatty steps and enforcing per-step budgets
+ */
+public class DriverCommandTracker implements WebDriverListener {
+    private static final Logger logger = LoggerFactory.getLogger(DriverCommandTracker.class);
+    private static final String HOOKS = "(hooks)";
+    private static final Set<String> ACCESSOR_METHODS = new HashSet<>(Arrays.asList(
+            "manage", "navigate", "switchTo", "timeouts", "window", "logs",
+            "getWrappedDriver", "getWrappedElement", "getCapabilities",
+            "toString", "hashCode", "equals"));
+
+    private static DriverCommandTracker instance;
+    private final Map<String, StepStats> statsByStep = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> callStart = new ThreadLocal<>();
+    private final ThreadLocal<DriverCommandEvent> callEvent = new ThreadLocal<>();
+    private final ThreadLocal<StepCounter> currentStep = new ThreadLocal<>();
+
+    private DriverCommandTracker() {
+    }
+
+    public static synchronized DriverCommandTracker getInstance() {
+        if (instance == null) {
+            instance = new DriverCommandTracker();
+        }
+        return instance;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isCommand(method) && callStart.get() == null) {
+            callStart.set(System.nanoTime());
+
+            DriverCommandEvent event = new DriverCommandEvent();
+            if (event.isEnabled()) {
+                event.scenario = StepContext.getScenario();
+                event.step = StepContext.getStep();
+                event.command = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+                event.begin();
+                callEvent.set(event);
+            }
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        if (isCommand(method)) {
+            recordCall(false);
+        }
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        if (isCommand(method)) {
+            recordCall(true);
+        }
+    }
+
+    private boolean isCommand(Method method) {
+        return !ACCESSOR_METHODS.contains(method.getName());
+    }
+
+    private void recordCall(boolean failed) {
+        Long start = callStart.get();
+        if (start == null) {
+            return;
+        }
+        callStart.remove();
+        long elapsed = System.nanoTime() - start;
+
+        DriverCommandEvent event = callEvent.get();
+        if (event != null) {
+            event.failed = failed;
+            event.commit();
+            callEvent.remove();
+        }
+
+        String step = StepContext.getStep();
+        statsByStep.computeIfAbsent(browserPrefix() + (step != null ? step : HOOKS), StepStats::new)
+                .record(elapsed);
+
+        if (step != null) {
+            StepCounter counter = currentStep.get();
+            if (counter == null || counter.sequence != StepContext.getStepSequence()) {
+                counter = new StepCounter(StepContext.getStepSequence());
+                currentStep.set(counter);
+            }
+            counter.commands++;
+            counter.nanos += elapsed;
+        }
+    }
+
+    /**
+     * Returns the number of driver commands sent by the most recent step on this thread
+     */
+    public int getLastStepCommandCount() {
+        StepCounter counter = currentStep.get();
+        return counter != null && counter.sequence == StepContext.getStepSequence() ? counter.commands : 0;
+    }
+
+    public long getLastStepCommandMillis() {
+        StepCounter counter = currentStep.get();
+        return counter != null && counter.sequence == StepContext.getStepSequence() ? counter.nanos / 1_000_000 : 0;
+    }
+
+    /**
+     * In cross-browser matrix runs, only the steps run on this thread's browser are returned
+     */
+    public List<StepStats> getChattiestSteps(int limit) {
+        String prefix = browserPrefix();
+        return statsByStep.values().stream()
+                .filter(stats -> stats.getStep().startsWith(prefix))
+                .sorted(Comparator.comparingDouble(StepStats::getAverageCommands).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public void writeReport(String reportPath, int limit) {
+        List<StepStats> chattiest = getChattiestSteps(limit);
+        if (chattiest.isEmpty()) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-8s %-10s %-10s %-12s %s", "RUNS", "COMMANDS", "AVG/RUN", "TOTAL_MS", "STEP"));
+        logger.info("Most chatty steps by WebDriver commands:");
+        for (StepStats stats : chattiest) {
+            String line = String.format("%-8d %-10d %-10.1f %-12d %s", stats.getRuns(), stats.getCommands(),
+                    stats.getAverageCommands(), stats.getTotalMillis(), stats.getStep());
+            lines.add(line);
+            logger.info("  {}", line);
+        }
+        try {
+            Path path = Paths.get(reportPath);
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Files.write(path, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to write driver command report: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Statistics of concurrent matrix browsers are kept apart by prefixing the step with the browser
+     */
+    private static String browserPrefix() {
+        String browser = DriverManager.getBrowserOverride();
+        return browser == null ? "" : "[" + browser + "] ";
+    }
+
+    private static class StepCounter {
+        private final int sequence;
+        private int commands;
+        private long nanos;
+
+        private StepCounter(int sequence) {
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Aggregated driver command statistics for one step text
+     */
+    public static class StepStats {
+        private final String step;
+        private final AtomicLong commands = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        private final Set<String> sequences = ConcurrentHashMap.newKeySet();
+
+        StepStats(String step) {
+            this.step = step;
+        }
+
+        void record(long elapsedNanos) {
+            commands.incrementAndGet();
+            nanos.addAndGet(elapsedNanos);
+            sequences.add(Thread.currentThread().getId() + ":" + StepContext.getStepSequence());
+        }
+
+        public String getStep() {
+            return step;
+        }
+
+        public long getCommands() {
+            return commands.get();
+        }
+
+        public int getRuns() {
+            return sequences.size();
+        }
+
+        public double getAverageCommands() {
+            return getRuns() == 0 ? 0 : (double) getCommands() / getRuns();
+        }
+
+        public long getTotalMillis() {
+            return nanos.get() / 1_000_000;
+        }
+    }
+}
@@ -1,40 +1,88 @@
 package com.qa.common;
 
+import com.qa.common.proxy.FaultInjectionProxy;
 import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * WebDriver Manager for creating and managing browser instances
  * Supports Chrome, Firefox, and Edge with configurable options
+ * Browsers are either quit after each scenario or reset and reused,
+ * depending on the configured isolation mode
  */
 public class DriverManager {
     private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
     private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> usageCount = ThreadLocal.withInitial(() -> 0);
+    private static final ThreadLocal<String> browserOverride = new ThreadLocal<>();
+    private static final ThreadLocal<String> mainWindow = new ThreadLocal<>();
+    private static final Map<Thread, WebDriver> activeDrivers = new ConcurrentHashMap<>();
 
     public static WebDriver getDriver() {
         if (driver.get() == null) {
-            driver.set(createDriver());
+            WebDriver webDriver = createDriver();
+            driver.set(webDriver);
+            usageCount.set(0);
+            // The handle set has no defined order, so the window to keep is remembered up front
+            mainWindow.set(webDriver.getWindowHandle());
+            activeDrivers.put(Thread.currentThread(), webDriver);
         }
         return driver.get();
     }
 
+    public static boolean hasDriver() {
+        return driver.get() != null;
+    }
+
+    public static Map<Thread, WebDriver> getActiveDrivers() {
+        return Collections.unmodifiableMap(activeDrivers);
+    }
+
+    /**
+     * Makes browsers created on the current thread use the given type instead of the
+     * configured one; used by the cross-browser matrix to run browsers side by side
+     */
+    public static void setBrowser(String browser) {
+        browserOverride.set(browser.trim().toLowerCase());
+    }
+
+    public static void clearBrowser() {
+        browserOverride.remove();
+    }
+
+    /**
+     * Returns the browser type set for the current thread, or null when the configured one is used
+     */
+    public static String getBrowserOverride() {
+        return browserOverride.get();
+    }
+
     private static WebDriver createDriver() {
         ConfigManager config = ConfigManager.getInstance();
-        String browser = config.getBrowser().toLowerCase();
+        String browser = browserOverride.get() != null ? browserOverride.get() : config.getBrowser().toLowerCase();
         boolean headless = config.isHeadless();
         WebDriver webDriver;
 
         logger.info("Creating {} driver (headless: {})", browser, headless);
+        Proxy proxy = config.isProxyEnabled() ? FaultInjectionProxy.getInstance().seleniumProxy() : null;
 
         switch (browser) {
             case "firefox":
@@ -43,6 +91,9 @@ public class DriverManager {
                 if (headless) {
                     firefoxOptions.addArguments("--headless");
                 }
+                if (proxy != null) {
+                    firefoxOptions.setProxy(proxy);
+                }
                 webDriver = new FirefoxDriver(firefoxOptions);
                 break;
 
@@ -52,6 +103,9 @@ public class DriverManager {
                 if (headless) {
                     edgeOptions.addArguments("--headless");
                 }
+                if (proxy != null) {
+                    edgeOptions.setProxy(proxy);
+                }
                 webDriver = new EdgeDriver(edgeOptions);
                 break;
 
@@ -66,10 +120,17 @@ public class DriverManager {
                 chromeOptions.addArguments("--window-size=1920,1080");
                 chromeOptions.addArguments("--no-sandbox");
                 chromeOptions.addArguments("--disable-dev-shm-usage");
+                if (proxy != null) {
+                    chromeOptions.setProxy(proxy);
+                }
                 webDriver = new ChromeDriver(chromeOptions);
                 break;
         }
 
+        if (config.isDriverCommandTrackingEnabled()) {
+            webDriver = new EventFiringDecorator<>(DriverCommandTracker.getInstance()).decorate(webDriver);
+        }
+
         webDriver.manage().window().maximize();
         webDriver.manage().timeouts().implicitlyWait(
             Duration.ofSeconds(config.getImplicitWait())
@@ -81,11 +142,106 @@ public class DriverManager {
         return webDriver;
     }
 
+    /**
+     * Hands the current thread's browser back after a scenario.
+     * In "quit" isolation mode the browser is closed. In "reset" mode the
+     * session is cleaned and kept for the next scenario, unless the scenario
+     * failed, the reset itself fails or the reuse limit has been reached.
+     */
+    public static void releaseDriver(boolean scenarioFailed) {
+        WebDriver webDriver = driver.get();
+        if (webDriver == null) {
+            return;
+        }
+
+        ConfigManager config = ConfigManager.getInstance();
+        if (!config.isSessionResetIsolation()) {
+            quitDriver();
+            return;
+        }
+
+        int uses = usageCount.get() + 1;
+        usageCount.set(uses);
+
+        if (scenarioFailed) {
+            logger.info("Recycling browser after failed scenario");
+            quitDriver();
+        } else if (uses >= config.getBrowserMaxReuse()) {
+            logger.info("Recycling browser after {} scenarios", uses);
+            quitDriver();
+        } else if (!resetSession(webDriver)) {
+            logger.warn("Browser session reset failed, recycling browser");
+            quitDriver();
+        }
+    }
+
+    private static boolean resetSession(WebDriver webDriver) {
+        try {
+            String keep = mainWindow.get();
+            for (String handle : webDriver.getWindowHandles()) {
+                if (!handle.equals(keep)) {
+                    webDriver.switchTo().window(handle);
+                    webDriver.close();
+                }
+            }
+            webDriver.switchTo().window(keep);
+
+            if (webDriver instanceof HasCdp) {
+                HasCdp cdp = (HasCdp) webDriver;
+                cdp.executeCdpCommand("Network.clearBrowserCache", Collections.emptyMap());
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+                // Storage of the application under test, whichever page the scenario ended on
+                cdp.executeCdpCommand("Storage.clearDataForOrigin",
+                        Map.of("origin", origin(ConfigManager.getInstance().getBaseUrl()), "storageTypes", "all"));
+            }
+            webDriver.manage().deleteAllCookies();
+            // Storage is per origin, so this clears the page the scenario ended on before leaving it
+            ((JavascriptExecutor) webDriver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            webDriver.get("about:blank");
+
+            logger.info("Browser session reset for reuse");
+            return true;
+        } catch (Exception e) {
+            logger.warn("Error while resetting browser session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static String origin(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+
     public static void quitDriver() {
         if (driver.get() != null) {
             logger.info("Quitting WebDriver");
-            driver.get().quit();
-            driver.remove();
+            try {
+                driver.get().quit();
+            } finally {
+                driver.remove();
+                usageCount.remove();
+                mainWindow.remove();
+                activeDrivers.remove(Thread.currentThread());
+            }
+        }
+    }
+
+    /**
+     * Quits every browser still kept alive by reset isolation, on any thread
+     */
+    public static void quitAllDrivers() {
+        for (Map.Entry<Thread, WebDriver> entry : activeDrivers.entrySet()) {
+            logger.info("Quitting WebDriver kept alive for thread {}", entry.getKey().getName());
+            try {
+                entry.getValue().quit();
+            } catch (Exception e) {
+                logger.warn("Failed to quit WebDriver: {}", e.getMessage());
+            }
+            activeDrivers.remove(entry.getKey());
         }
+        driver.remove();
+        usageCount.remove();
+        mainWindow.remove();
     }
 }
@@ -0,0 +1,99 @@
+package com.qa.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Progress and failure manifest for test runs
+ * Every scenario is appended as STARTED and then with its final status,
+ * so an interrupted or failed run can be resumed from where it stopped
+ */
+public class ExecutionManifest {
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionManifest.class);
+    private static final String STARTED = "STARTED";
+    private static final String PASSED = "PASSED";
+
+    private static ExecutionManifest instance;
+    private final Path manifestPath;
+    private final boolean resume;
+    private final Map<String, String> previousStatus = new HashMap<>();
+
+    private ExecutionManifest() {
+        ConfigManager config = ConfigManager.getInstance();
+        this.manifestPath = Paths.get(config.getRunManifestPath());
+        this.resume = config.isResumeRun();
+        initialize();
+    }
+
+    public static synchronized ExecutionManifest getInstance() {
+        if (instance == null) {
+            instance = new ExecutionManifest();
+        }
+        return instance;
+    }
+
+    private void initialize() {
+        try {
+            Files.createDirectories(manifestPath.toAbsolutePath().getParent());
+            if (resume && Files.exists(manifestPath)) {
+                List<String> lines = Files.readAllLines(manifestPath, StandardCharsets.UTF_8);
+                for (String line : lines) {
+                    String[] parts = line.split("\t");
+                    if (parts.length >= 2) {
+                        previousStatus.put(parts[1], parts[0]);
+                    }
+                }
+                logger.info("Resuming run from manifest {} ({} scenarios recorded)",
+                        manifestPath, previousStatus.size());
+            } else {
+                Files.write(manifestPath, new byte[0]);
+                logger.info("Recording run progress to {}", manifestPath);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot initialize run manifest: " + manifestPath, e);
+        }
+    }
+
+    public static String scenarioId(String uri, Integer line) {
+        return uri + ":" + line;
+    }
+
+    /**
+     * Returns true when resuming and the scenario already passed in the previous run
+     */
+    public synchronized boolean hasAlreadyPassed(String scenarioId) {
+        return resume && PASSED.equals(previousStatus.get(scenarioId));
+    }
+
+    public void recordStarted(String scenarioId, String name) {
+        append(STARTED, scenarioId, name);
+    }
+
+    public void recordFinished(String scenarioId, String name, String status) {
+        append(status, scenarioId, name);
+    }
+
+    private synchronized void append(String status, String scenarioId, String name) {
+        String line = status + "\t" + scenarioId + "\t" + name + System.lineSeparator();
+        try {
+            Files.write(manifestPath, line.getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warn("Failed to update run manifest: {}", e.getMessage());
+        }
+    }
+
+    public Path getManifestPath() {
+        return manifestPath;
+    }
+}
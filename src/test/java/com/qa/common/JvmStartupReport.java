@@ -0,0 +1,80 @@
+package com.qa.common;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records how long the test JVM took to reach the first Cucumber hook
+ * The mode column tells runs that trained a class-data sharing archive (-Pcds),
+ * runs that mapped it and runs without one apart, so startup times can be compared.
+ */
+public class JvmStartupReport {
+    private static final Logger logger = LoggerFactory.getLogger(JvmStartupReport.class);
+    private static final String HEADER = "timestamp,mode,startup_ms,loaded_classes,java_version";
+    private static final AtomicBoolean recorded = new AtomicBoolean();
+
+    private JvmStartupReport() {
+    }
+
+    /**
+     * Records the startup of this JVM; later calls, e.g. from further runners in the same fork, are ignored
+     */
+    public static void recordOnce() {
+        if (!recorded.compareAndSet(false, true)) {
+            return;
+        }
+        long startupMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        int loadedClasses = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+        String mode = detectMode();
+        logger.info("Test JVM reached the first hook after {} ms with {} classes loaded (class data sharing: {})",
+                startupMillis, loadedClasses, mode);
+
+        Path report = Paths.get(ConfigManager.getInstance().getStartupReportPath());
+        String line = String.join(",", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), mode,
+                String.valueOf(startupMillis), String.valueOf(loadedClasses), System.getProperty("java.version"));
+        try {
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            if (!Files.exists(report)) {
+                Files.write(report, (HEADER + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+            }
+            Files.write(report, (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warn("Failed to write JVM startup report: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * training: the JVM dumps an archive at exit; archive: it started from one; default: neither
+     */
+    private static String detectMode() {
+        if (!vmOption("ArchiveClassesAtExit").isEmpty()) {
+            return "training";
+        }
+        boolean sharing = System.getProperty("java.vm.info", "").contains("sharing");
+        return sharing && !vmOption("SharedArchiveFile").isEmpty() ? "archive" : "default";
+    }
+
+    private static String vmOption(String name) {
+        try {
+            String value = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class)
+                    .getVMOption(name).getValue();
+            return value == null ? "" : value;
+        } catch (RuntimeException e) {
+            // Unknown to this JVM, e.g. ArchiveClassesAtExit before JDK 13
+            return "";
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.qa.common;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Nearest-rank percentiles shared by the latency, soak and load reports
+ */
+public final class Percentiles {
+
+    private Percentiles() {
+    }
+
+    /**
+     * Returns the given percentile (0-100) of the values, NaN when there are none
+     */
+    public static double of(List<? extends Number> values, double percentile) {
+        double[] sorted = values.stream().mapToDouble(Number::doubleValue).toArray();
+        Arrays.sort(sorted);
+        return sorted.length == 0 ? Double.NaN : sorted[rank(sorted.length, percentile)];
+    }
+
+    /**
+     * Same as {@link #of(List, double)} for values already sorted ascending
+     */
+    public static double ofSorted(long[] sorted, double percentile) {
+        return sorted.length == 0 ? Double.NaN : sorted[rank(sorted.length, percentile)];
+    }
+
+    private static int rank(int size, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return Math.max(0, Math.min(size - 1, index));
+    }
+}
@@ -0,0 +1,247 @@
+package com.qa.common;
+
+import com.sun.management.UnixOperatingSystemMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Detects resources leaked by scenarios during long runs
+ * Snapshots browser and driver processes started by this JVM, live threads, open file
+ * descriptors and retained heap around every scenario, flags scenarios that grow them
+ * beyond the configured thresholds, and can reclaim browser processes no driver owns
+ */
+public class ResourceLeakDetector {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceLeakDetector.class);
+    private static final Set<String> DRIVER_SERVERS = Set.of("chromedriver", "geckodriver", "msedgedriver");
+    private static final Set<String> BROWSERS = Set.of("chrome", "chromium", "firefox", "msedge");
+    // Bounded pools shared by the whole run; they grow on first use and are not leaks
+    private static final List<String> SHARED_POOL_THREADS = List.of("HttpClient-", "ForkJoinPool.commonPool",
+            "CompletableFutureDelayScheduler", "fault-proxy-", "rest-assured-transport", "test-daemon-runner",
+            "step-watchdog");
+
+    private static ResourceLeakDetector instance;
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final ThreadLocal<Snapshot> scenarioStart = new ThreadLocal<>();
+    private final List<String> findings = new ArrayList<>();
+    private final Snapshot runStart;
+    private int scenarioCount;
+    private int reclaimedProcesses;
+
+    private ResourceLeakDetector() {
+        this.runStart = Snapshot.take();
+    }
+
+    public static synchronized ResourceLeakDetector getInstance() {
+        if (instance == null) {
+            instance = new ResourceLeakDetector();
+        }
+        return instance;
+    }
+
+    public void scenarioStarted() {
+        if (!config.isBrowserMatrixRun()) {
+            scenarioStart.set(Snapshot.take());
+        }
+    }
+
+    /**
+     * Compares resources with the start of the scenario; call after the browser was released
+     * Skipped in cross-browser matrix runs, where the JVM-wide snapshots also grow with the
+     * scenarios running concurrently on other browsers
+     */
+    public void scenarioFinished(String scenarioName) {
+        if (config.isBrowserMatrixRun()) {
+            synchronized (this) {
+                scenarioCount++;
+            }
+            return;
+        }
+        Snapshot before = scenarioStart.get();
+        scenarioStart.remove();
+        if (before == null) {
+            return;
+        }
+
+        int orphans = reclaimOrphans();
+        Snapshot after = Snapshot.take();
+        List<String> growth = new ArrayList<>();
+        if (orphans > 0) {
+            growth.add(orphans + " orphaned browser/driver processes");
+        }
+        checkGrowth(growth, "threads", before.threads, after.threads, config.getLeakThreadThreshold());
+        checkGrowth(growth, "file descriptors", before.openFiles, after.openFiles, config.getLeakFdThreshold());
+        checkGrowth(growth, "retained heap MB", before.heapMb, after.heapMb, config.getLeakHeapThresholdMb());
+
+        synchronized (this) {
+            scenarioCount++;
+            if (!growth.isEmpty()) {
+                String finding = scenarioName + ": " + String.join(", ", growth);
+                findings.add(finding);
+                logger.warn("Possible resource leak in {}", finding);
+            }
+        }
+    }
+
+    private static void checkGrowth(List<String> growth, String resource, long before, long after, long threshold) {
+        if (before >= 0 && after - before > threshold) {
+            growth.add(String.format("%s %d -> %d", resource, before, after));
+        }
+    }
+
+    /**
+     * Counts driver server processes that no active WebDriver accounts for; when no
+     * browser should be running at all, they are destroyed if leak.reclaim.orphans is set
+     */
+    public synchronized int reclaimOrphans() {
+        List<ProcessHandle> driverServers = browserProcesses(DRIVER_SERVERS);
+        int expected = DriverManager.getActiveDrivers().size();
+        int orphans = Math.max(0, driverServers.size() - expected);
+        if (orphans > 0 && expected == 0 && config.shouldReclaimOrphanedBrowsers()) {
+            List<ProcessHandle> leaked = browserProcesses(DRIVER_SERVERS);
+            leaked.addAll(browserProcesses(BROWSERS));
+            for (ProcessHandle process : leaked) {
+                process.descendants().forEach(ProcessHandle::destroy);
+                process.destroy();
+            }
+            reclaimedProcesses += leaked.size();
+            logger.warn("Reclaimed {} orphaned browser/driver processes", leaked.size());
+        }
+        return orphans;
+    }
+
+    public synchronized void writeReport() {
+        Path path = Paths.get(config.getLeakReportPath());
+        Snapshot runEnd = Snapshot.take();
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+                out.printf("Resource usage over %d scenarios%n", scenarioCount);
+                out.printf("%-22s %10s %10s%n", "Resource", "Start", "End");
+                out.printf("%-22s %10d %10d%n", "Child processes", runStart.childProcesses, runEnd.childProcesses);
+                out.printf("%-22s %10d %10d%n", "Threads", runStart.threads, runEnd.threads);
+                out.printf("%-22s %10d %10d%n", "File descriptors", runStart.openFiles, runEnd.openFiles);
+                out.printf("%-22s %10d %10d%n", "Retained heap MB", runStart.heapMb, runEnd.heapMb);
+                out.printf("Reclaimed processes: %d%n%n", reclaimedProcesses);
+                out.printf("Scenarios flagged: %d%n", findings.size());
+                findings.forEach(finding -> out.println("  " + finding));
+            }
+            logger.info("Resource leak report written to {} ({} scenarios flagged)", path, findings.size());
+        } catch (IOException e) {
+            logger.warn("Failed to write resource leak report: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Heap in use after the most recent collection, which ignores garbage not yet collected
+     */
+    public static long retainedHeapMb() {
+        long bytes = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && usage != null) {
+                bytes += usage.getUsed();
+            }
+        }
+        return bytes / (1024 * 1024);
+    }
+
+    /**
+     * Resident memory of the driver servers started by this JVM and the browsers under them,
+     * read from /proc; -1 where /proc is not available
+     */
+    public static long browserResidentMb() {
+        if (!Files.isDirectory(Paths.get("/proc/self"))) {
+            return -1;
+        }
+        long kilobytes = 0;
+        for (ProcessHandle driverServer : browserProcesses(DRIVER_SERVERS)) {
+            kilobytes += residentKb(driverServer.pid());
+            kilobytes += driverServer.descendants().mapToLong(process -> residentKb(process.pid())).sum();
+        }
+        return kilobytes / 1024;
+    }
+
+    private static long residentKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // The process exited between listing and reading
+        }
+        return 0;
+    }
+
+    private static List<ProcessHandle> browserProcesses(Set<String> names) {
+        return ProcessHandle.current().descendants()
+                .filter(process -> process.info().command()
+                        .map(command -> names.contains(executableName(command)))
+                        .orElse(false))
+                .collect(Collectors.toList());
+    }
+
+    private static String executableName(String command) {
+        String name = Paths.get(command).getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".exe") ? name.substring(0, name.length() - 4) : name;
+    }
+
+    /**
+     * Point-in-time resource usage of this JVM and its child processes
+     */
+    private static final class Snapshot {
+        private final long childProcesses;
+        private final long threads;
+        private final long openFiles;
+        private final long heapMb;
+
+        private Snapshot(long childProcesses, long threads, long openFiles, long heapMb) {
+            this.childProcesses = childProcesses;
+            this.threads = threads;
+            this.openFiles = openFiles;
+            this.heapMb = heapMb;
+        }
+
+        static Snapshot take() {
+            long processes = ProcessHandle.current().descendants().count();
+            long threads = countThreads();
+            OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+            long openFiles = os instanceof UnixOperatingSystemMXBean
+                    ? ((UnixOperatingSystemMXBean) os).getOpenFileDescriptorCount() : -1;
+            return new Snapshot(processes, threads, openFiles, retainedHeapMb());
+        }
+
+        /**
+         * Live threads, not counting the framework's shared pools
+         */
+        private static long countThreads() {
+            ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+            return Arrays.stream(threadBean.getThreadInfo(threadBean.getAllThreadIds(), 0))
+                    .filter(Objects::nonNull)
+                    .filter(info -> SHARED_POOL_THREADS.stream().noneMatch(info.getThreadName()::startsWith))
+                    .count();
+        }
+
+    }
+}
@@ -0,0 +1,74 @@
+package com.qa.common;
+
+import java.time.Duration;
+
+/**
+ * Per-scenario time budget shared by API calls and UI waits
+ * Started by TestHooks for the scenario thread; operations cap their own timeouts to the
+ * remaining budget and fail fast once it is used up, so a broken environment cannot stall a run
+ */
+public final class ScenarioDeadline {
+    private static final ThreadLocal<Long> deadlineNanos = new ThreadLocal<>();
+    private static final ThreadLocal<Long> budgetSeconds = new ThreadLocal<>();
+
+    private ScenarioDeadline() {
+    }
+
+    /**
+     * Starts the budget for the current thread; 0 or less disables it
+     */
+    public static void start(long seconds) {
+        if (seconds <= 0) {
+            clear();
+            return;
+        }
+        budgetSeconds.set(seconds);
+        deadlineNanos.set(System.nanoTime() + Duration.ofSeconds(seconds).toNanos());
+    }
+
+    public static void clear() {
+        deadlineNanos.remove();
+        budgetSeconds.remove();
+    }
+
+    public static boolean isActive() {
+        return deadlineNanos.get() != null;
+    }
+
+    public static boolean isExhausted() {
+        return isActive() && remaining().isZero();
+    }
+
+    /**
+     * Returns the time left, or null when no budget is active
+     */
+    public static Duration remaining() {
+        Long deadline = deadlineNanos.get();
+        if (deadline == null) {
+            return null;
+        }
+        return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
+
+    /**
+     * Returns the configured timeout limited to the remaining budget
+     *
+     * @throws RuntimeException when the budget is already used up
+     */
+    public static Duration cap(Duration timeout, String operation) {
+        Duration remaining = remaining();
+        if (remaining == null) {
+            return timeout;
+        }
+        if (remaining.isZero()) {
+            throw new RuntimeException(String.format(
+                    "Scenario time budget of %ds exhausted before %s", budgetSeconds.get(), operation));
+        }
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    public static long getBudgetSeconds() {
+        Long seconds = budgetSeconds.get();
+        return seconds == null ? 0 : seconds;
+    }
+}
@@ -0,0 +1,73 @@
+package com.qa.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-bound identity of the Cucumber scenario and step currently executing
+ * Populated by the StepTracker plugin and read by diagnostics such as driver command accounting
+ */
+public class StepContext {
+    private static final ThreadLocal<String> scenario = new ThreadLocal<>();
+    private static final ThreadLocal<String> step = new ThreadLocal<>();
+    private static final ThreadLocal<Long> stepStartNanos = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> stepSequence = ThreadLocal.withInitial(() -> 0);
+    private static final Map<Thread, String> runningSteps = new ConcurrentHashMap<>();
+
+    private StepContext() {
+    }
+
+    public static void scenarioStarted(String scenarioName) {
+        scenario.set(scenarioName);
+        step.remove();
+    }
+
+    public static void scenarioFinished() {
+        scenario.remove();
+        step.remove();
+        runningSteps.remove(Thread.currentThread());
+        stepStartNanos.remove();
+    }
+
+    public static void stepStarted(String stepText) {
+        step.set(stepText);
+        runningSteps.put(Thread.currentThread(), stepText);
+        stepStartNanos.set(System.nanoTime());
+        stepSequence.set(stepSequence.get() + 1);
+    }
+
+    public static void stepFinished() {
+        step.remove();
+        runningSteps.remove(Thread.currentThread());
+        stepStartNanos.remove();
+    }
+
+    public static String getScenario() {
+        return scenario.get();
+    }
+
+    /**
+     * Returns the text of the running step, or null while hooks are executing
+     */
+    public static String getStep() {
+        return step.get();
+    }
+
+    /**
+     * Returns the text of the step running on another thread, or null while it executes hooks
+     */
+    public static String getStep(Thread thread) {
+        return runningSteps.get(thread);
+    }
+
+    public static Long getStepStartNanos() {
+        return stepStartNanos.get();
+    }
+
+    /**
+     * Increments on every step started on this thread, so consumers can detect step boundaries
+     */
+    public static int getStepSequence() {
+        return stepSequence.get();
+    }
+}
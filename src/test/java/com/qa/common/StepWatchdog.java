@@ -0,0 +1,276 @@
+package com.qa.common;
+
+import com.qa.api.InFlightRequests;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Aborts steps that run longer than their budget and records where they were stuck
+ * When a step overruns, the watchdog thread captures a thread dump, the URL and a
+ * screenshot of the step thread's browser and the in-flight API requests, then
+ * interrupts the step thread and fails its asynchronous API calls. Browser captures are
+ * time-bounded, as the browser may be the thing that hangs. Blocking socket reads are
+ * not interruptible and end at api.timeout; the step still fails once it returns.
+ */
+public class StepWatchdog {
+    private static final Logger logger = LoggerFactory.getLogger(StepWatchdog.class);
+    private static StepWatchdog instance;
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Map<Thread, Watch> watches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService captureExecutor;
+
+    private StepWatchdog() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemon("step-watchdog"));
+        this.captureExecutor = Executors.newCachedThreadPool(daemon("step-watchdog-capture"));
+    }
+
+    public static synchronized StepWatchdog getInstance() {
+        if (instance == null) {
+            instance = new StepWatchdog();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts watching the step running on the current thread
+     */
+    public void stepStarted(String scenarioName, long budgetSeconds) {
+        stepFinished();
+        Watch watch = new Watch(Thread.currentThread(), scenarioName, budgetSeconds);
+        watch.timer = scheduler.schedule(() -> overrun(watch), budgetSeconds, TimeUnit.SECONDS);
+        watches.put(watch.thread, watch);
+    }
+
+    /**
+     * Stops watching the current thread's step; returns the diagnostics when it overran, otherwise null
+     */
+    public Diagnostics stepFinished() {
+        Watch watch = watches.remove(Thread.currentThread());
+        if (watch == null) {
+            return null;
+        }
+        synchronized (watch) {
+            watch.finished = true;
+            watch.timer.cancel(false);
+            if (watch.diagnostics != null) {
+                // The interrupt was meant for the step, not for the hooks that follow
+                Thread.interrupted();
+            }
+            return watch.diagnostics;
+        }
+    }
+
+    private void overrun(Watch watch) {
+        String step = StepContext.getStep(watch.thread);
+        watch.step = step != null ? step : "(hook)";
+        logger.error("Step '{}' of '{}' exceeded the watchdog budget of {}s, capturing diagnostics",
+                watch.step, watch.scenario, watch.budgetSeconds);
+        Diagnostics diagnostics = capture(watch);
+        synchronized (watch) {
+            if (watch.finished) {
+                return;
+            }
+            watch.diagnostics = diagnostics;
+            String reason = "Step watchdog aborted '" + watch.step + "' after " + watch.budgetSeconds + "s";
+            int aborted = InFlightRequests.abort(watch.thread, reason);
+            watch.thread.interrupt();
+            logger.error("Interrupted thread {} and aborted {} async API requests; diagnostics in {}",
+                    watch.thread.getName(), aborted, diagnostics.getReportFile());
+        }
+    }
+
+    private Diagnostics capture(Watch watch) {
+        WebDriver driver = DriverManager.getActiveDrivers().get(watch.thread);
+        String url = driver == null ? "(no browser)"
+                : boundedCapture(driver::getCurrentUrl, "(browser did not respond)");
+        byte[] screenshot = driver == null ? null
+                : boundedCapture(() -> ScreenshotUtil.captureScreenshotAsBytes(driver), null);
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Scenario: %s%nStep: %s%nBudget: %ds%nThread: %s%nBrowser URL: %s%n%n",
+                watch.scenario, watch.step, watch.budgetSeconds, watch.thread.getName(), url));
+        List<String> requests = InFlightRequests.describe(watch.thread);
+        report.append("In-flight API requests (* = sent by the step thread):").append(System.lineSeparator());
+        if (requests.isEmpty()) {
+            report.append("  none").append(System.lineSeparator());
+        }
+        requests.forEach(request -> report.append("  ").append(request).append(System.lineSeparator()));
+        report.append(System.lineSeparator()).append("Thread dump (step thread first):").append(System.lineSeparator());
+        appendThreadDump(report, watch.thread);
+
+        Path reportFile = writeFiles(watch, report.toString(), screenshot);
+        String summary = String.format("Step exceeded the watchdog budget of %ds at %s (browser: %s)",
+                watch.budgetSeconds, stuckAt(watch.thread), url);
+        return new Diagnostics(summary, report.toString(), screenshot, reportFile);
+    }
+
+    /**
+     * The innermost framework frame of the step thread, which says more than a JDK socket read
+     */
+    private static String stuckAt(Thread thread) {
+        StackTraceElement[] stack = thread.getStackTrace();
+        for (StackTraceElement frame : stack) {
+            if (frame.getClassName().startsWith("com.qa.")) {
+                return frame.toString();
+            }
+        }
+        return stack.length > 0 ? stack[0].toString() : "unknown";
+    }
+
+    private <T> T boundedCapture(Supplier<T> capture, T fallback) {
+        try {
+            return CompletableFuture.supplyAsync(capture, captureExecutor)
+                    .get(config.getStepWatchdogCaptureTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (Exception e) {
+            logger.warn("Watchdog capture failed: {}", e.toString());
+            return fallback;
+        }
+    }
+
+    private static void appendThreadDump(StringBuilder out, Thread stepThread) {
+        ThreadInfo[] threads = ManagementFactory.getThreadMXBean().dumpAllThreads(true, true);
+        for (ThreadInfo info : threads) {
+            if (info.getThreadId() == stepThread.getId()) {
+                appendThread(out, info);
+            }
+        }
+        for (ThreadInfo info : threads) {
+            if (info.getThreadId() != stepThread.getId()) {
+                appendThread(out, info);
+            }
+        }
+    }
+
+    /**
+     * Like ThreadInfo.toString, without its limit of eight frames
+     */
+    private static void appendThread(StringBuilder out, ThreadInfo info) {
+        String newLine = System.lineSeparator();
+        out.append('"').append(info.getThreadName()).append("\" #").append(info.getThreadId())
+                .append(' ').append(info.getThreadState());
+        if (info.getLockName() != null) {
+            out.append(" on ").append(info.getLockName());
+        }
+        if (info.getLockOwnerName() != null) {
+            out.append(" owned by \"").append(info.getLockOwnerName()).append('"');
+        }
+        out.append(newLine);
+        StackTraceElement[] stack = info.getStackTrace();
+        for (int i = 0; i < stack.length; i++) {
+            out.append("    at ").append(stack[i]).append(newLine);
+            for (MonitorInfo monitor : info.getLockedMonitors()) {
+                if (monitor.getLockedStackDepth() == i) {
+                    out.append("    - locked ").append(monitor).append(newLine);
+                }
+            }
+        }
+        for (LockInfo lock : info.getLockedSynchronizers()) {
+            out.append("    - locked ").append(lock).append(newLine);
+        }
+        out.append(newLine);
+    }
+
+    private Path writeFiles(Watch watch, String report, byte[] screenshot) {
+        String baseName = watch.scenario.replaceAll("[^a-zA-Z0-9]", "_") + "_"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        Path directory = Paths.get(config.getStepWatchdogReportPath());
+        Path reportFile = directory.resolve(baseName + ".txt");
+        try {
+            Files.createDirectories(directory);
+            Files.write(reportFile, report.getBytes(StandardCharsets.UTF_8));
+            if (screenshot != null) {
+                Files.write(directory.resolve(baseName + ".png"), screenshot);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to write watchdog diagnostics: {}", e.getMessage());
+        }
+        return reportFile;
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * What the watchdog captured when a step overran its budget
+     */
+    public static final class Diagnostics {
+        private final String summary;
+        private final String report;
+        private final byte[] screenshot;
+        private final Path reportFile;
+
+        private Diagnostics(String summary, String report, byte[] screenshot, Path reportFile) {
+            this.summary = summary;
+            this.report = report;
+            this.screenshot = screenshot;
+            this.reportFile = reportFile;
+        }
+
+        public String getSummary() {
+            return summary;
+        }
+
+        public String getReport() {
+            return report;
+        }
+
+        /**
+         * PNG of the step thread's browser, or null without a responsive browser
+         */
+        public byte[] getScreenshot() {
+            return screenshot;
+        }
+
+        public Path getReportFile() {
+            return reportFile;
+        }
+    }
+
+    private static final class Watch {
+        private final Thread thread;
+        private final String scenario;
+        private final long budgetSeconds;
+        private String step;
+        private ScheduledFuture<?> timer;
+        private boolean finished;
+        private Diagnostics diagnostics;
+
+        private Watch(Thread thread, String scenario, long budgetSeconds) {
+            this.thread = thread;
+            this.scenario = scenario;
+            this.budgetSeconds = budgetSeconds;
+        }
+    }
+}
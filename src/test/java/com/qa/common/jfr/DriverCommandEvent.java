@@ -0,0 +1,28 @@
+package com.qa.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one WebDriver command
+ */
+@Name("com.qa.DriverCommand")
+@Label("WebDriver Command")
+@Category({"QA Framework", "UI"})
+@Description("Command sent to the browser through WebDriver")
+public class DriverCommandEvent extends Event {
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("Step")
+    public String step;
+
+    @Label("Command")
+    public String command;
+
+    @Label("Failed")
+    public boolean failed;
+}
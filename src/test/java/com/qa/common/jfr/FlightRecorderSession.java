@@ -0,0 +1,56 @@
+package com.qa.common.jfr;
+
+import com.qa.common.ConfigManager;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Starts a JDK Flight Recorder recording covering the whole test run
+ * The recording includes the framework events and the JVM's own events (GC, threads, I/O)
+ * and is written to the configured directory when the JVM exits
+ */
+public class FlightRecorderSession {
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderSession.class);
+    private static Recording recording;
+
+    private FlightRecorderSession() {
+    }
+
+    public static synchronized void startIfEnabled() {
+        ConfigManager config = ConfigManager.getInstance();
+        if (recording != null || !config.isJfrRecordingEnabled()) {
+            return;
+        }
+
+        try {
+            String timestamp = LocalDateTime.now()
+                    .format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+            Path destination = Paths.get(config.getJfrPath(), "test-run_" + timestamp + ".jfr");
+            Files.createDirectories(destination.toAbsolutePath().getParent());
+
+            recording = new Recording(Configuration.getConfiguration(config.getJfrSettings()));
+            recording.setName("qa-test-run");
+            recording.enable(ScenarioEvent.class);
+            recording.enable(StepEvent.class);
+            recording.enable(HttpCallEvent.class);
+            recording.enable(DriverCommandEvent.class);
+            recording.enable(PageWaitEvent.class);
+            recording.setToDisk(true);
+            recording.setDumpOnExit(true);
+            recording.setDestination(destination);
+            recording.start();
+
+            logger.info("Flight recording started, will be written to {}", destination);
+        } catch (Exception e) {
+            logger.error("Failed to start flight recording", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.qa.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one HTTP call made through ApiClient
+ */
+@Name("com.qa.HttpCall")
+@Label("HTTP Call")
+@Category({"QA Framework", "API"})
+@Description("HTTP request sent to the API under test")
+public class HttpCallEvent extends Event {
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("Step")
+    public String step;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Status Code")
+    public int statusCode;
+}
@@ -0,0 +1,31 @@
+package com.qa.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning an explicit wait in the page-object layer
+ */
+@Name("com.qa.PageWait")
+@Label("Page Wait")
+@Category({"QA Framework", "UI"})
+@Description("Explicit wait performed by a page object")
+public class PageWaitEvent extends Event {
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("Step")
+    public String step;
+
+    @Label("Page")
+    public String page;
+
+    @Label("Condition")
+    public String condition;
+
+    @Label("Timed Out")
+    public boolean timedOut;
+}
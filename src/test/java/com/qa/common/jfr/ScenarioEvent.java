@@ -0,0 +1,25 @@
+package com.qa.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one Cucumber scenario
+ */
+@Name("com.qa.Scenario")
+@Label("Scenario")
+@Category({"QA Framework", "Cucumber"})
+@Description("Execution of a Cucumber scenario")
+public class ScenarioEvent extends Event {
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("Tags")
+    public String tags;
+
+    @Label("Status")
+    public String status;
+}
@@ -0,0 +1,25 @@
+package com.qa.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one Cucumber step
+ */
+@Name("com.qa.Step")
+@Label("Step")
+@Category({"QA Framework", "Cucumber"})
+@Description("Execution of a Cucumber step")
+public class StepEvent extends Event {
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("Step")
+    public String step;
+
+    @Label("Status")
+    public String status;
+}
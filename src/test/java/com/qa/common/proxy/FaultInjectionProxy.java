@@ -0,0 +1,456 @@
+package com.qa.common.proxy;
+
+import com.qa.common.ConfigManager;
+import org.openqa.selenium.Proxy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process HTTP proxy injecting latency, bandwidth caps, connection resets and
+ * error responses according to the active FaultProfile
+ *
+ * ApiClient uses it as a reverse proxy (requests to http://127.0.0.1:port/... are
+ * forwarded to the configured API origin). Browsers use it as a forward proxy; their
+ * HTTPS traffic goes through CONNECT tunnels, where only host-level faults apply.
+ */
+public class FaultInjectionProxy {
+    private static final Logger logger = LoggerFactory.getLogger(FaultInjectionProxy.class);
+    private static final int MAX_HEAD_SIZE = 64 * 1024;
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "proxy-connection", "keep-alive",
+            "transfer-encoding", "te", "trailer", "upgrade", "proxy-authorization", "proxy-authenticate",
+            "content-length", "host", "expect");
+    private static FaultInjectionProxy instance;
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final ExecutorService connections = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "fault-proxy-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final HttpClient upstream;
+    private final FaultProfile defaultProfile;
+    private final long seed;
+    private final AtomicLong connectionCount = new AtomicLong();
+    private volatile FaultProfile profile;
+    private volatile String upstreamOrigin;
+    private ServerSocket server;
+
+    private FaultInjectionProxy() {
+        this.upstream = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofMillis(config.getApiConnectTimeout()))
+                .build();
+        this.defaultProfile = FaultProfile.named(config.getProxyProfile());
+        this.profile = defaultProfile;
+        this.seed = config.getProxySeed();
+    }
+
+    /**
+     * Returns the proxy, starting it on first use
+     */
+    public static synchronized FaultInjectionProxy getInstance() {
+        if (instance == null) {
+            instance = new FaultInjectionProxy();
+            instance.start();
+        }
+        return instance;
+    }
+
+    public static synchronized boolean isRunning() {
+        return instance != null;
+    }
+
+    /**
+     * True while the running proxy applies a profile with fault rules, e.g. during a @network scenario
+     */
+    public static synchronized boolean isInjectingFaults() {
+        return instance != null && instance.profile.injectsFaults();
+    }
+
+    private void start() {
+        try {
+            server = new ServerSocket(config.getProxyPort(), 50, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start fault injection proxy", e);
+        }
+        connections.execute(this::acceptLoop);
+        logger.info("Fault injection proxy listening on 127.0.0.1:{} with profile {}", getPort(), profile);
+    }
+
+    public static synchronized void stop() {
+        if (instance != null) {
+            try {
+                instance.server.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close fault injection proxy: {}", e.getMessage());
+            }
+            instance.connections.shutdownNow();
+            instance = null;
+        }
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Routes an API base URL through the proxy, e.g. https://host/api becomes http://127.0.0.1:port/api
+     */
+    public String reverseProxyUrl(String apiBaseUrl) {
+        URI uri = URI.create(apiBaseUrl);
+        upstreamOrigin = uri.getScheme() + "://" + uri.getRawAuthority();
+        return "http://127.0.0.1:" + getPort() + (uri.getRawPath() == null ? "" : uri.getRawPath());
+    }
+
+    public Proxy seleniumProxy() {
+        String address = "127.0.0.1:" + getPort();
+        return new Proxy().setHttpProxy(address).setSslProxy(address);
+    }
+
+    public void setProfile(FaultProfile newProfile) {
+        this.profile = newProfile;
+        logger.info("Network profile set to {}", newProfile);
+    }
+
+    /**
+     * Restores the profile configured by proxy.profile; returns false when it was still active
+     */
+    public boolean resetProfile() {
+        if (profile == defaultProfile) {
+            return false;
+        }
+        setProfile(defaultProfile);
+        return true;
+    }
+
+    public FaultProfile getProfile() {
+        return profile;
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                // Each connection draws from its own sequence, so a seeded profile does not depend
+                // on how concurrent connections interleave
+                Random random = new Random(seed ^ connectionCount.incrementAndGet() * 0x9E3779B97F4A7C15L);
+                connections.execute(() -> handle(socket, random));
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    logger.warn("Proxy accept failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void handle(Socket socket, Random random) {
+        try (Socket client = socket) {
+            InputStream in = new BufferedInputStream(client.getInputStream());
+            OutputStream out = new BufferedOutputStream(client.getOutputStream());
+            boolean keepAlive = true;
+            while (keepAlive) {
+                String head = readHead(in);
+                if (head == null) {
+                    return;
+                }
+                String[] lines = head.split("\r\n");
+                String[] requestLine = lines[0].split(" ");
+                if (requestLine.length < 3) {
+                    writeResponse(out, 400, Map.of(), new byte[0], 0, false);
+                    return;
+                }
+                Map<String, List<String>> headers = parseHeaders(lines);
+                if ("CONNECT".equalsIgnoreCase(requestLine[0])) {
+                    tunnel(client, in, out, requestLine[1], random);
+                    return;
+                }
+                keepAlive = !"close".equalsIgnoreCase(firstHeader(headers, "connection"))
+                        && !"close".equalsIgnoreCase(firstHeader(headers, "proxy-connection"));
+                keepAlive &= forward(client, in, out, requestLine[0], requestLine[1], headers, random);
+            }
+        } catch (IOException e) {
+            logger.debug("Proxy connection closed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Forwards one request; returns false when the connection must not be reused
+     */
+    private boolean forward(Socket client, InputStream in, OutputStream out, String method, String target,
+                            Map<String, List<String>> headers, Random random) throws IOException {
+        if (headers.containsKey("transfer-encoding")) {
+            writeResponse(out, 411, Map.of(), new byte[0], 0, false);
+            return false;
+        }
+        int contentLength = Integer.parseInt(firstHeader(headers, "content-length", "0"));
+        byte[] body = in.readNBytes(contentLength);
+
+        URI uri;
+        if (target.startsWith("http://") || target.startsWith("https://")) {
+            uri = URI.create(target);
+        } else if (upstreamOrigin != null) {
+            uri = URI.create(upstreamOrigin + target);
+        } else {
+            writeResponse(out, 502, Map.of(), new byte[0], 0, false);
+            return true;
+        }
+
+        String route = uri.getHost() + uri.getRawPath();
+        FaultRule rule = profile.ruleFor(route);
+        long bandwidth = 0;
+        if (rule != null) {
+            bandwidth = rule.getBandwidthBytesPerSecond();
+            if (!delay(rule, random)) {
+                return false;
+            }
+            if (rule.shouldReset(random)) {
+                logger.info("Injected connection reset: {} {}", method, route);
+                reset(client);
+                return false;
+            }
+            if (rule.shouldFail(random)) {
+                logger.info("Injected status {}: {} {}", rule.getErrorStatus(), method, route);
+                byte[] error = ("{\"message\":\"Injected fault\",\"status\":" + rule.getErrorStatus() + "}")
+                        .getBytes(StandardCharsets.UTF_8);
+                writeResponse(out, rule.getErrorStatus(), Map.of("Content-Type", List.of("application/json")),
+                        error, bandwidth, method.equalsIgnoreCase("HEAD"));
+                return true;
+            }
+        }
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .method(method, body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        headers.forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name)) {
+                for (String value : values) {
+                    try {
+                        request.header(name, value);
+                    } catch (IllegalArgumentException e) {
+                        // Header restricted by java.net.http, such as Date or Via
+                    }
+                }
+            }
+        });
+
+        HttpResponse<byte[]> response;
+        try {
+            response = upstream.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            logger.warn("Upstream request failed: {} {} - {}", method, uri, e.getMessage());
+            writeResponse(out, 502, Map.of(), new byte[0], 0, false);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        writeResponse(out, response.statusCode(), response.headers().map(), response.body(), bandwidth,
+                method.equalsIgnoreCase("HEAD"));
+        return true;
+    }
+
+    /**
+     * Relays an HTTPS CONNECT tunnel, applying the rule matching host:port
+     */
+    private void tunnel(Socket client, InputStream in, OutputStream out, String target, Random random)
+            throws IOException {
+        FaultRule rule = profile.ruleFor(target);
+        long bandwidth = rule == null ? 0 : rule.getBandwidthBytesPerSecond();
+        if (rule != null) {
+            if (!delay(rule, random)) {
+                return;
+            }
+            if (rule.shouldReset(random)) {
+                logger.info("Injected connection reset: CONNECT {}", target);
+                reset(client);
+                return;
+            }
+            if (rule.shouldFail(random)) {
+                logger.info("Injected status {}: CONNECT {}", rule.getErrorStatus(), target);
+                writeResponse(out, rule.getErrorStatus(), Map.of(), new byte[0], 0, false);
+                return;
+            }
+        }
+
+        int colon = target.lastIndexOf(':');
+        String host = colon > 0 ? target.substring(0, colon) : target;
+        int port = colon > 0 ? Integer.parseInt(target.substring(colon + 1)) : 443;
+        try (Socket remote = new Socket()) {
+            remote.connect(new InetSocketAddress(host, port), config.getApiConnectTimeout());
+            out.write("HTTP/1.1 200 Connection Established\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+
+            InputStream remoteIn = remote.getInputStream();
+            OutputStream remoteOut = remote.getOutputStream();
+            connections.execute(() -> pump(in, remoteOut, 0, remote));
+            pump(remoteIn, out, bandwidth, client);
+        }
+    }
+
+    private void pump(InputStream from, OutputStream to, long bandwidth, Socket closeWhenDone) {
+        byte[] buffer = new byte[16 * 1024];
+        try {
+            int read;
+            while ((read = from.read(buffer)) != -1) {
+                throttledWrite(to, buffer, 0, read, bandwidth);
+                to.flush();
+            }
+        } catch (IOException e) {
+            logger.debug("Tunnel closed: {}", e.getMessage());
+        } finally {
+            try {
+                closeWhenDone.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close tunnel: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void writeResponse(OutputStream out, int status, Map<String, List<String>> headers, byte[] body,
+                               long bandwidth, boolean headRequest) throws IOException {
+        StringBuilder head = new StringBuilder("HTTP/1.1 ").append(status).append(' ')
+                .append(reasonPhrase(status)).append("\r\n");
+        headers.forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase()) && !name.startsWith(":")) {
+                values.forEach(value -> head.append(name).append(": ").append(value).append("\r\n"));
+            }
+        });
+        head.append("Content-Length: ").append(body.length).append("\r\n\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+        if (!headRequest) {
+            throttledWrite(out, body, 0, body.length, bandwidth);
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes in 100 ms slices so throughput stays at the given bytes per second
+     */
+    private static void throttledWrite(OutputStream out, byte[] data, int offset, int length, long bytesPerSecond)
+            throws IOException {
+        if (bytesPerSecond <= 0) {
+            out.write(data, offset, length);
+            return;
+        }
+        int slice = (int) Math.max(1, bytesPerSecond / 10);
+        for (int position = offset; position < offset + length; position += slice) {
+            int size = Math.min(slice, offset + length - position);
+            out.write(data, position, size);
+            out.flush();
+            if (!sleep(size * 1000L / bytesPerSecond)) {
+                throw new IOException("Interrupted while throttling");
+            }
+        }
+    }
+
+    private boolean delay(FaultRule rule, Random random) {
+        long millis = rule.delayMillis(random);
+        return millis <= 0 || sleep(millis);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void reset(Socket socket) throws IOException {
+        socket.setSoLinger(true, 0);
+        socket.close();
+    }
+
+    private static String readHead(InputStream in) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        int lastFour = 0;
+        int b;
+        while ((b = in.read()) != -1) {
+            head.write(b);
+            lastFour = (lastFour << 8) | b;
+            if (lastFour == 0x0D0A0D0A) {
+                return head.toString(StandardCharsets.ISO_8859_1);
+            }
+            if (head.size() > MAX_HEAD_SIZE) {
+                throw new IOException("Request head too large");
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, List<String>> parseHeaders(String[] lines) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon > 0) {
+                headers.computeIfAbsent(lines[i].substring(0, colon).trim().toLowerCase(), name -> new ArrayList<>())
+                        .add(lines[i].substring(colon + 1).trim());
+            }
+        }
+        return headers;
+    }
+
+    private static String firstHeader(Map<String, List<String>> headers, String name) {
+        return firstHeader(headers, name, null);
+    }
+
+    private static String firstHeader(Map<String, List<String>> headers, String name, String defaultValue) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? defaultValue : values.get(0);
+    }
+
+    private static String reasonPhrase(int status) {
+        switch (status) {
+            case 200:
+                return "OK";
+            case 400:
+                return "Bad Request";
+            case 404:
+                return "Not Found";
+            case 411:
+                return "Length Required";
+            case 500:
+                return "Internal Server Error";
+            case 502:
+                return "Bad Gateway";
+            case 503:
+                return "Service Unavailable";
+            case 504:
+                return "Gateway Timeout";
+            default:
+                return "Status " + status;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.qa.common.proxy;
+
+import com.qa.common.ConfigManager;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Named set of fault rules; the first rule matching a route applies
+ */
+public class FaultProfile {
+    private final String name;
+    private final List<FaultRule> rules;
+
+    public FaultProfile(String name, List<FaultRule> rules) {
+        this.name = name;
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+    }
+
+    /**
+     * Returns one of the built-in profiles:
+     * none, slow-network, slow-api, flaky or api-outage
+     */
+    public static FaultProfile named(String name) {
+        switch (name.toLowerCase()) {
+            case "none":
+                return new FaultProfile("none", List.of());
+            case "slow-network":
+                return new FaultProfile("slow-network", List.of(
+                        FaultRule.forAllRoutes().latency(400).jitter(200).bandwidthKbps(50)));
+            case "slow-api":
+                return new FaultProfile("slow-api", List.of(
+                        FaultRule.forRoute(apiRoute()).latency(2000).jitter(500)));
+            case "flaky":
+                return new FaultProfile("flaky", List.of(
+                        FaultRule.forAllRoutes().latency(100).jitter(300).resetRate(0.1).errorStatus(503, 0.1)));
+            case "api-outage":
+                return new FaultProfile("api-outage", List.of(
+                        FaultRule.forRoute(apiRoute()).errorStatus(503)));
+            default:
+                throw new IllegalArgumentException("Unknown network profile: " + name);
+        }
+    }
+
+    /**
+     * Route matching the configured API: its host and path for plain HTTP, its host:port for
+     * HTTPS tunnels, where the path is not visible
+     */
+    private static String apiRoute() {
+        URI api = URI.create(ConfigManager.getInstance().getApiBaseUrl());
+        String path = api.getRawPath() == null ? "" : api.getRawPath();
+        return "^" + Pattern.quote(api.getHost()) + "(:\\d+$|" + Pattern.quote(path) + ")";
+    }
+
+    public FaultRule ruleFor(String target) {
+        for (FaultRule rule : rules) {
+            if (rule.matches(target)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<FaultRule> getRules() {
+        return rules;
+    }
+
+    public boolean injectsFaults() {
+        return !rules.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return name + rules;
+    }
+}
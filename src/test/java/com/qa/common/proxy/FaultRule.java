@@ -0,0 +1,101 @@
+package com.qa.common.proxy;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * Network faults applied to requests whose route matches a regular expression
+ * Routes are matched against "host/path" for plain HTTP and API calls, and against
+ * "host:port" for HTTPS tunnels opened by browsers
+ */
+public class FaultRule {
+    private final Pattern route;
+    private long latencyMillis;
+    private long jitterMillis;
+    private long bandwidthBytesPerSecond;
+    private double resetRate;
+    private int errorStatus;
+    private double errorRate = 1.0;
+
+    private FaultRule(String routeRegex) {
+        this.route = Pattern.compile(routeRegex);
+    }
+
+    public static FaultRule forRoute(String routeRegex) {
+        return new FaultRule(routeRegex);
+    }
+
+    public static FaultRule forAllRoutes() {
+        return new FaultRule(".*");
+    }
+
+    public FaultRule latency(long millis) {
+        this.latencyMillis = millis;
+        return this;
+    }
+
+    public FaultRule jitter(long millis) {
+        this.jitterMillis = millis;
+        return this;
+    }
+
+    /**
+     * Caps the response throughput; 0 means unlimited
+     */
+    public FaultRule bandwidthKbps(long kilobytesPerSecond) {
+        this.bandwidthBytesPerSecond = kilobytesPerSecond * 1024;
+        return this;
+    }
+
+    /**
+     * Resets the connection for the given fraction (0-1) of matching requests
+     */
+    public FaultRule resetRate(double rate) {
+        this.resetRate = rate;
+        return this;
+    }
+
+    /**
+     * Answers matching requests with the given status instead of forwarding them
+     */
+    public FaultRule errorStatus(int status) {
+        return errorStatus(status, 1.0);
+    }
+
+    public FaultRule errorStatus(int status, double rate) {
+        this.errorStatus = status;
+        this.errorRate = rate;
+        return this;
+    }
+
+    public boolean matches(String target) {
+        return route.matcher(target).find();
+    }
+
+    long delayMillis(Random random) {
+        return latencyMillis + (jitterMillis > 0 ? (long) (random.nextDouble() * jitterMillis) : 0);
+    }
+
+    boolean shouldReset(Random random) {
+        return resetRate > 0 && random.nextDouble() < resetRate;
+    }
+
+    boolean shouldFail(Random random) {
+        return errorStatus > 0 && random.nextDouble() < errorRate;
+    }
+
+    int getErrorStatus() {
+        return errorStatus;
+    }
+
+    long getBandwidthBytesPerSecond() {
+        return bandwidthBytesPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("route=%s latency=%dms jitter=%dms bandwidth=%dB/s reset=%.2f error=%d@%.2f",
+                route.pattern(), latencyMillis, jitterMillis, bandwidthBytesPerSecond, resetRate,
+                errorStatus, errorRate);
+    }
+}
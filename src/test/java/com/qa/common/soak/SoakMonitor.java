@@ -0,0 +1,255 @@
+package com.qa.common.soak;
+
+import com.qa.api.latency.LatencyRecorder;
+import com.qa.common.ConfigManager;
+import com.qa.common.ResourceLeakDetector;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Collects the metrics of a soak run in fixed time windows and looks for trends
+ * Scenario durations come from the launcher events, API latencies from the
+ * LatencyRecorder and memory from a background sampler. Latency metrics drift when
+ * their fitted p95 grows by more than soak.drift.max.increase over the run; memory
+ * leaks when it grows faster than the configured MB per hour. Both need a fit with an
+ * R² of at least soak.trend.min.r2, so noise alone is not reported. The first
+ * soak.warmup.windows windows (class loading, JIT, connection pools) are not fitted.
+ */
+public class SoakMonitor implements TestExecutionListener {
+    private static final Logger logger = LoggerFactory.getLogger(SoakMonitor.class);
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final long startNanos = System.nanoTime();
+    private final List<SoakWindow> windows = new ArrayList<>();
+    private final Map<String, Long> scenarioStarts = new ConcurrentHashMap<>();
+    private final Map<String, Integer> recordedApiSamples = new HashMap<>();
+    private final List<String> trendRows = new ArrayList<>();
+    private final List<String> findings = new ArrayList<>();
+    private ScheduledExecutorService sampler;
+    private SoakWindow current = new SoakWindow(1, 0);
+
+    public void start() {
+        LatencyRecorder.getInstance().getSamples().forEach((endpoint, samples) ->
+                recordedApiSamples.put(endpoint, samples.size()));
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soak-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sampleMemory, 0, config.getSoakSampleSeconds(), TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            scenarioStarts.put(testIdentifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+        Long started = scenarioStarts.remove(testIdentifier.getUniqueId());
+        if (started != null) {
+            long millis = (System.nanoTime() - started) / 1_000_000;
+            synchronized (this) {
+                current.addScenario(millis, result.getStatus() == TestExecutionResult.Status.FAILED);
+            }
+        }
+    }
+
+    /**
+     * Assigns the API calls of the finished iteration to the current window and starts
+     * a new window once soak.window.minutes have passed
+     */
+    public synchronized void iterationFinished() {
+        LatencyRecorder.getInstance().getSamples().forEach((endpoint, samples) -> {
+            int seen = recordedApiSamples.getOrDefault(endpoint, 0);
+            if (samples.size() > seen) {
+                current.addApiSamples(endpoint, samples.subList(seen, samples.size()));
+                recordedApiSamples.put(endpoint, samples.size());
+            }
+        });
+
+        double elapsed = elapsedMinutes();
+        current.iterationFinished(elapsed);
+        if (elapsed - current.getStartMinutes() >= config.getSoakWindowMinutes()) {
+            closeWindow(elapsed);
+        }
+    }
+
+    public synchronized void stop() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+        }
+        if (current.getIterations() > 0) {
+            closeWindow(elapsedMinutes());
+        }
+    }
+
+    public synchronized int getIterations() {
+        return windows.stream().mapToInt(SoakWindow::getIterations).sum() + current.getIterations();
+    }
+
+    public synchronized int getFailures() {
+        return windows.stream().mapToInt(SoakWindow::getFailures).sum() + current.getFailures();
+    }
+
+    /**
+     * Fits trends over the closed windows and returns the drifting or leaking metrics
+     */
+    public synchronized List<String> analyzeTrends() {
+        trendRows.clear();
+        findings.clear();
+        trendRows.add(String.format("%-32s %9s %9s %8s %10s %6s  %s", "Metric", "First", "Last", "Change",
+                "Slope/h", "R2", "Verdict"));
+
+        analyzeLatency("Scenario p95 ms", window -> window.scenarioPercentile(95));
+        analyzeLatency("API p95 ms", window -> window.apiPercentile(95));
+        TreeSet<String> endpoints = new TreeSet<>();
+        windows.forEach(window -> window.getEndpoints().forEach(endpoints::add));
+        for (String endpoint : endpoints) {
+            analyzeLatency("API p95 ms " + endpoint, window -> window.apiPercentile(endpoint, 95));
+        }
+        analyzeMemory("Retained heap MB", SoakWindow::getHeapMb, config.getSoakHeapMaxGrowthMbPerHour());
+        analyzeMemory("Browser RSS MB", SoakWindow::getPeakBrowserMb, config.getSoakBrowserMaxGrowthMbPerHour());
+        return new ArrayList<>(findings);
+    }
+
+    private void analyzeLatency(String metric, ToDoubleFunction<SoakWindow> value) {
+        analyze(metric, value, (trend, first, last) -> {
+            double increase = (trend.valueAt(last) - trend.valueAt(first)) / Math.max(1.0, trend.valueAt(first));
+            return increase > config.getSoakDriftMaxIncrease() ? "DRIFT" : null;
+        });
+    }
+
+    private void analyzeMemory(String metric, ToDoubleFunction<SoakWindow> value, double maxGrowthPerHour) {
+        analyze(metric, value, (trend, first, last) ->
+                trend.getSlope() * 60 > maxGrowthPerHour ? "LEAK" : null);
+    }
+
+    private void analyze(String metric, ToDoubleFunction<SoakWindow> value, Verdict verdict) {
+        List<double[]> points = new ArrayList<>();
+        for (SoakWindow window : windows.subList(Math.min(windows.size(), config.getSoakWarmupWindows()),
+                windows.size())) {
+            double y = value.applyAsDouble(window);
+            if (!Double.isNaN(y)) {
+                points.add(new double[]{window.getMidMinutes(), y});
+            }
+        }
+        if (points.isEmpty()) {
+            return;
+        }
+
+        double[] x = points.stream().mapToDouble(point -> point[0]).toArray();
+        double[] y = points.stream().mapToDouble(point -> point[1]).toArray();
+        double firstY = y[0];
+        double lastY = y[y.length - 1];
+        if (points.size() < config.getSoakTrendMinWindows()) {
+            trendRows.add(String.format("%-32s %9.1f %9.1f %8s %10s %6s  %s", metric, firstY, lastY, "", "", "",
+                    "not enough windows"));
+            return;
+        }
+
+        TrendLine trend = TrendLine.fit(x, y);
+        double first = x[0];
+        double last = x[x.length - 1];
+        double change = (trend.valueAt(last) - trend.valueAt(first)) / Math.max(1.0, Math.abs(trend.valueAt(first)));
+        String flagged = trend.getR2() >= config.getSoakTrendMinR2() ? verdict.apply(trend, first, last) : null;
+        trendRows.add(String.format("%-32s %9.1f %9.1f %+7.0f%% %10.1f %6.2f  %s", metric, firstY, lastY,
+                change * 100, trend.getSlope() * 60, trend.getR2(), flagged == null ? "ok" : flagged));
+        if (flagged != null) {
+            findings.add(String.format("%s %s: %.1f -> %.1f (%+.1f per hour, R2 %.2f)", flagged, metric,
+                    trend.valueAt(first), trend.valueAt(last), trend.getSlope() * 60, trend.getR2()));
+        }
+    }
+
+    public synchronized void writeReport(Path path) {
+        List<String> lines = new ArrayList<>();
+        int scenarios = windows.stream().mapToInt(SoakWindow::getScenarios).sum();
+        lines.add(String.format("Soak run: %.1f min, %d iterations, %d scenarios, %d failed, %d windows",
+                elapsedMinutes(), getIterations(), scenarios, getFailures(), windows.size()));
+        lines.add("");
+        lines.add(String.format("%6s %8s %5s %5s %5s %9s %9s %6s %8s %8s %8s %8s %10s", "Window", "Start", "Iter",
+                "Scen", "Fail", "Scen p50", "Scen p95", "API n", "API p50", "API p95", "API p99", "Heap MB",
+                "Browser MB"));
+        for (SoakWindow window : windows) {
+            lines.add(String.format("%6d %8.1f %5d %5d %5d %9s %9s %6d %8s %8s %8s %8s %10s",
+                    window.getIndex(), window.getStartMinutes(), window.getIterations(), window.getScenarios(),
+                    window.getFailures(), cell(window.scenarioPercentile(50)), cell(window.scenarioPercentile(95)),
+                    window.getApiCalls(), cell(window.apiPercentile(50)), cell(window.apiPercentile(95)),
+                    cell(window.apiPercentile(99)), cell(window.getHeapMb()), cell(window.getPeakBrowserMb())));
+        }
+        lines.add("");
+        lines.add(String.format("Trends (least squares, slope per hour, first %d window(s) excluded as warm-up)",
+                config.getSoakWarmupWindows()));
+        lines.addAll(trendRows);
+        if (!findings.isEmpty()) {
+            lines.add("");
+            lines.add("Findings:");
+            findings.forEach(finding -> lines.add("  " + finding));
+        }
+
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+                lines.forEach(out::println);
+            }
+            lines.forEach(logger::info);
+            logger.info("Soak report written to {}", path);
+        } catch (IOException e) {
+            logger.warn("Failed to write soak report: {}", e.getMessage());
+        }
+    }
+
+    private void sampleMemory() {
+        try {
+            long heapMb = ResourceLeakDetector.retainedHeapMb();
+            long browserMb = ResourceLeakDetector.browserResidentMb();
+            synchronized (this) {
+                current.addMemorySample(heapMb, browserMb);
+            }
+        } catch (RuntimeException e) {
+            // A failed sample must not cancel the schedule
+            logger.debug("Memory sample failed: {}", e.getMessage());
+        }
+    }
+
+    private static String cell(double value) {
+        return Double.isNaN(value) ? "-" : String.format("%.0f", value);
+    }
+
+    private void closeWindow(double elapsed) {
+        windows.add(current);
+        logger.info("Soak window {} closed after {} iterations", current.getIndex(), current.getIterations());
+        current = new SoakWindow(current.getIndex() + 1, elapsed);
+    }
+
+    private double elapsedMinutes() {
+        return (System.nanoTime() - startNanos) / 60_000_000_000.0;
+    }
+
+    private interface Verdict {
+        /**
+         * Returns the finding label for a trend fitted between the first and last window, or null
+         */
+        String apply(TrendLine trend, double first, double last);
+    }
+}
@@ -0,0 +1,116 @@
+package com.qa.common.soak;
+
+import com.qa.common.Percentiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Scenario and API latencies, failures and memory samples of one time window of a soak run
+ */
+public class SoakWindow {
+    private final int index;
+    private final double startMinutes;
+    private double endMinutes;
+    private int iterations;
+    private int failures;
+    private final List<Long> scenarioMillis = new ArrayList<>();
+    private final Map<String, List<Long>> apiMillis = new TreeMap<>();
+    private long heapSumMb;
+    private int heapSamples;
+    private long peakBrowserMb = -1;
+
+    SoakWindow(int index, double startMinutes) {
+        this.index = index;
+        this.startMinutes = startMinutes;
+        this.endMinutes = startMinutes;
+    }
+
+    void addScenario(long millis, boolean failed) {
+        scenarioMillis.add(millis);
+        if (failed) {
+            failures++;
+        }
+    }
+
+    void addApiSamples(String endpoint, List<Long> millis) {
+        apiMillis.computeIfAbsent(endpoint, key -> new ArrayList<>()).addAll(millis);
+    }
+
+    void addMemorySample(long heapMb, long browserMb) {
+        heapSumMb += heapMb;
+        heapSamples++;
+        peakBrowserMb = Math.max(peakBrowserMb, browserMb);
+    }
+
+    void iterationFinished(double elapsedMinutes) {
+        iterations++;
+        endMinutes = elapsedMinutes;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public double getStartMinutes() {
+        return startMinutes;
+    }
+
+    public double getMidMinutes() {
+        return (startMinutes + endMinutes) / 2;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getScenarios() {
+        return scenarioMillis.size();
+    }
+
+    public int getFailures() {
+        return failures;
+    }
+
+    public double scenarioPercentile(double percentile) {
+        return Percentiles.of(scenarioMillis, percentile);
+    }
+
+    /**
+     * Percentile over all API calls of the window
+     */
+    public double apiPercentile(double percentile) {
+        List<Long> all = new ArrayList<>();
+        apiMillis.values().forEach(all::addAll);
+        return Percentiles.of(all, percentile);
+    }
+
+    public double apiPercentile(String endpoint, double percentile) {
+        return Percentiles.of(apiMillis.getOrDefault(endpoint, Collections.emptyList()), percentile);
+    }
+
+    public int getApiCalls() {
+        return apiMillis.values().stream().mapToInt(List::size).sum();
+    }
+
+    public Iterable<String> getEndpoints() {
+        return apiMillis.keySet();
+    }
+
+    /**
+     * Average retained heap over the window's samples, NaN without samples
+     */
+    public double getHeapMb() {
+        return heapSamples == 0 ? Double.NaN : (double) heapSumMb / heapSamples;
+    }
+
+    /**
+     * Peak resident memory of browsers and driver servers, NaN when none ran or /proc is unavailable
+     */
+    public double getPeakBrowserMb() {
+        return peakBrowserMb <= 0 ? Double.NaN : peakBrowserMb;
+    }
+}
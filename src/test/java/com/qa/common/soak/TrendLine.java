@@ -0,0 +1,55 @@
+package com.qa.common.soak;
+
+/**
+ * Least-squares line through a metric's values over the run, with its goodness of fit
+ */
+public class TrendLine {
+    private final double slope;
+    private final double intercept;
+    private final double r2;
+
+    private TrendLine(double slope, double intercept, double r2) {
+        this.slope = slope;
+        this.intercept = intercept;
+        this.r2 = r2;
+    }
+
+    /**
+     * Fits y = intercept + slope * x; a flat series has an R² of 0, as it shows no trend
+     */
+    public static TrendLine fit(double[] x, double[] y) {
+        int n = x.length;
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < n; i++) {
+            meanX += x[i] / n;
+            meanY += y[i] / n;
+        }
+        double sxx = 0;
+        double sxy = 0;
+        double syy = 0;
+        for (int i = 0; i < n; i++) {
+            sxx += (x[i] - meanX) * (x[i] - meanX);
+            sxy += (x[i] - meanX) * (y[i] - meanY);
+            syy += (y[i] - meanY) * (y[i] - meanY);
+        }
+        double slope = sxx == 0 ? 0 : sxy / sxx;
+        double r2 = sxx == 0 || syy == 0 ? 0 : (sxy * sxy) / (sxx * syy);
+        return new TrendLine(slope, meanY - slope * meanX, r2);
+    }
+
+    public double valueAt(double x) {
+        return intercept + slope * x;
+    }
+
+    /**
+     * Change per unit of x
+     */
+    public double getSlope() {
+        return slope;
+    }
+
+    public double getR2() {
+        return r2;
+    }
+}
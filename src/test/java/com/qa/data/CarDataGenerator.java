@@ -0,0 +1,289 @@
+package com.qa.data;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.qa.api.models.Car;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic generator of synthetic car records following schemas/car-schema.json
+ * Each record is derived from the seed and its index only, so the same seed always
+ * produces the same dataset and records can be streamed without holding them in memory
+ */
+public class CarDataGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(CarDataGenerator.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final String[] COLORS = {"White", "Black", "Silver", "Grey", "Blue", "Red", "Green", "Brown"};
+    private static final double[] COLOR_WEIGHTS = cumulate(0.24, 0.20, 0.15, 0.15, 0.10, 0.09, 0.04, 0.03);
+    private static final String[] TRANSMISSIONS = {"Automatic", "Manual", "CVT", "Semi-Automatic"};
+    private static final double[] TRANSMISSION_WEIGHTS = cumulate(0.60, 0.25, 0.10, 0.05);
+    private static final String[] FUEL_TYPES = {"Petrol", "Diesel", "Hybrid", "Electric", "LPG", "CNG"};
+    private static final double[] FUEL_WEIGHTS = cumulate(0.52, 0.25, 0.12, 0.08, 0.02, 0.01);
+
+    private final long seed;
+    private final Map<String, MakeProfile> makes = new LinkedHashMap<>();
+    private double[] makeWeights;
+    private String[] makeNames;
+    private int minYear = 2005;
+    private int maxYear = 2025;
+    private double yearSpread = 4.0;
+    private double priceSigma = 0.25;
+    private double minPrice = 1000;
+    private double maxPrice = 250000;
+    private long firstId = 1;
+
+    public CarDataGenerator(long seed) {
+        this.seed = seed;
+        addMake("Toyota", 0.18, 28000, "Camry", "Corolla", "RAV4", "Yaris", "Prius");
+        addMake("Volkswagen", 0.14, 27000, "Golf", "Polo", "Passat", "Tiguan", "ID.3");
+        addMake("Ford", 0.12, 30000, "Mustang", "Focus", "Fiesta", "Kuga", "F-150");
+        addMake("Honda", 0.10, 25000, "Civic", "Accord", "CR-V", "Jazz");
+        addMake("BMW", 0.09, 52000, "X5", "3 Series", "5 Series", "i4");
+        addMake("Mercedes-Benz", 0.08, 55000, "C-Class", "E-Class", "GLA", "EQA");
+        addMake("Hyundai", 0.08, 23000, "i30", "Tucson", "Kona", "Ioniq 5");
+        addMake("Renault", 0.07, 21000, "Clio", "Megane", "Captur", "Zoe");
+        addMake("Tesla", 0.05, 48000, "Model 3", "Model Y", "Model S");
+        addMake("Audi", 0.05, 50000, "A3", "A4", "Q5", "e-tron");
+        addMake("Porsche", 0.02, 110000, "911", "Cayenne", "Taycan");
+        addMake("Dacia", 0.02, 15000, "Sandero", "Duster", "Spring");
+    }
+
+    /**
+     * Adds or replaces a make with its relative weight, typical new price and models
+     */
+    public CarDataGenerator addMake(String make, double weight, double basePrice, String... models) {
+        makes.put(make, new MakeProfile(basePrice, models));
+        rebuildMakeWeights(make, weight);
+        return this;
+    }
+
+    /**
+     * Restricts generated makes to the given names, keeping their relative weights
+     */
+    public CarDataGenerator onlyMakes(String... makeNamesToKeep) {
+        List<String> keep = Arrays.asList(makeNamesToKeep);
+        Map<String, Double> weights = currentWeights();
+        makes.keySet().retainAll(keep);
+        weights.keySet().retainAll(keep);
+        if (makes.isEmpty()) {
+            throw new IllegalArgumentException("None of the makes are known: " + keep);
+        }
+        setWeights(weights);
+        return this;
+    }
+
+    public CarDataGenerator withYearRange(int minYear, int maxYear) {
+        if (minYear > maxYear) {
+            throw new IllegalArgumentException("minYear must not be greater than maxYear");
+        }
+        this.minYear = minYear;
+        this.maxYear = maxYear;
+        return this;
+    }
+
+    /**
+     * Sets how strongly years are skewed toward maxYear (standard deviation in years)
+     */
+    public CarDataGenerator withYearSpread(double yearSpread) {
+        this.yearSpread = yearSpread;
+        return this;
+    }
+
+    public CarDataGenerator withPriceRange(double minPrice, double maxPrice) {
+        if (minPrice < 0 || minPrice > maxPrice) {
+            throw new IllegalArgumentException("Invalid price range: " + minPrice + " - " + maxPrice);
+        }
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        return this;
+    }
+
+    /**
+     * Sets the log-normal dispersion of prices around each make's base price
+     */
+    public CarDataGenerator withPriceSigma(double priceSigma) {
+        this.priceSigma = priceSigma;
+        return this;
+    }
+
+    public CarDataGenerator withFirstId(long firstId) {
+        this.firstId = firstId;
+        return this;
+    }
+
+    /**
+     * Returns the record at the given index; the same seed and index always give the same car
+     */
+    public Car generate(long index) {
+        SplittableRandom random = new SplittableRandom(mix(seed + index * GOLDEN_GAMMA));
+
+        String make = makeNames[pick(makeWeights, random)];
+        MakeProfile profile = makes.get(make);
+        String model = profile.models[random.nextInt(profile.models.length)];
+
+        int age = (int) Math.min(maxYear - minYear, Math.abs(gaussian(random)) * yearSpread);
+        int year = maxYear - age;
+
+        double depreciation = Math.pow(0.88, age);
+        double price = profile.basePrice * depreciation * Math.exp(gaussian(random) * priceSigma);
+        price = Math.round(Math.max(minPrice, Math.min(maxPrice, price)) / 50.0) * 50.0;
+
+        int mileage = (int) Math.max(0, age * 12000 + gaussian(random) * 4000 * Math.sqrt(age + 1));
+
+        Car car = new Car(firstId + index, make, model, year, price);
+        car.setColor(COLORS[pick(COLOR_WEIGHTS, random)]);
+        car.setMileage(mileage);
+        car.setTransmission(TRANSMISSIONS[pick(TRANSMISSION_WEIGHTS, random)]);
+        car.setFuelType(isElectricModel(make, model) ? "Electric" : FUEL_TYPES[pick(FUEL_WEIGHTS, random)]);
+        return car;
+    }
+
+    /**
+     * Lazily streams count records; safe to use with parallel streams
+     */
+    public Stream<Car> stream(long count) {
+        return LongStream.range(0, count).mapToObj(this::generate);
+    }
+
+    public void generate(long count, Consumer<Car> consumer) {
+        for (long i = 0; i < count; i++) {
+            consumer.accept(generate(i));
+        }
+    }
+
+    /**
+     * Writes count records as {"cars": [...]}, the layout of testdata/test-cars.json
+     */
+    public void writeJson(Path file, long count) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            writeJson(out, count);
+        }
+        logger.info("Generated {} cars (seed {}) to {}", count, seed, file);
+    }
+
+    public void writeJson(OutputStream out, long count) throws IOException {
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("cars");
+            for (long i = 0; i < count; i++) {
+                writeCar(json, generate(i));
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private void writeCar(JsonGenerator json, Car car) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", car.getId());
+        json.writeStringField("make", car.getMake());
+        json.writeStringField("model", car.getModel());
+        json.writeNumberField("year", car.getYear());
+        json.writeStringField("color", car.getColor());
+        json.writeNumberField("price", car.getPrice());
+        json.writeNumberField("mileage", car.getMileage());
+        json.writeStringField("transmission", car.getTransmission());
+        json.writeStringField("fuelType", car.getFuelType());
+        json.writeEndObject();
+    }
+
+    private boolean isElectricModel(String make, String model) {
+        return "Tesla".equals(make) || model.startsWith("ID.") || model.startsWith("EQ")
+                || model.equals("Taycan") || model.equals("Zoe") || model.equals("e-tron")
+                || model.equals("i4") || model.equals("Ioniq 5") || model.equals("Spring");
+    }
+
+    private void rebuildMakeWeights(String make, double weight) {
+        Map<String, Double> weights = currentWeights();
+        weights.put(make, weight);
+        setWeights(weights);
+    }
+
+    private Map<String, Double> currentWeights() {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        if (makeNames != null) {
+            double previous = 0;
+            for (int i = 0; i < makeNames.length; i++) {
+                weights.put(makeNames[i], makeWeights[i] - previous);
+                previous = makeWeights[i];
+            }
+        }
+        return weights;
+    }
+
+    private void setWeights(Map<String, Double> weights) {
+        makeNames = weights.keySet().toArray(new String[0]);
+        makeWeights = new double[makeNames.length];
+        double cumulative = 0;
+        for (int i = 0; i < makeNames.length; i++) {
+            cumulative += weights.get(makeNames[i]);
+            makeWeights[i] = cumulative;
+        }
+    }
+
+    /**
+     * Picks an index from cumulative weights
+     */
+    private static int pick(double[] cumulative, SplittableRandom random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        index = index >= 0 ? index + 1 : -index - 1;
+        return Math.min(index, cumulative.length - 1);
+    }
+
+    private static double[] cumulate(double... weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static class MakeProfile {
+        private final double basePrice;
+        private final String[] models;
+
+        private MakeProfile(double basePrice, String[] models) {
+            if (models.length == 0) {
+                throw new IllegalArgumentException("A make needs at least one model");
+            }
+            this.basePrice = basePrice;
+            this.models = models;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.qa.data;
+
+import com.qa.api.models.Car;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable set of cars with secondary indexes built once at load time
+ * Lookups by id, make, model and year are constant time; price ranges use a sorted index
+ */
+public class CarDataset {
+    private final String name;
+    private final List<Car> cars;
+    private final Map<Long, Car> byId = new HashMap<>();
+    private final Map<String, List<Car>> byMake = new HashMap<>();
+    private final Map<String, List<Car>> byModel = new HashMap<>();
+    private final Map<Integer, List<Car>> byYear = new HashMap<>();
+    private final NavigableMap<Double, List<Car>> byPrice = new TreeMap<>();
+
+    CarDataset(String name, List<Car> cars) {
+        this.name = name;
+        this.cars = Collections.unmodifiableList(cars);
+        for (Car car : cars) {
+            byId.put(car.getId(), car);
+            index(byMake, key(car.getMake()), car);
+            index(byModel, key(car.getModel()), car);
+            index(byYear, car.getYear(), car);
+            index(byPrice, car.getPrice(), car);
+        }
+        freeze(byMake);
+        freeze(byModel);
+        freeze(byYear);
+        freeze(byPrice);
+    }
+
+    private static <K> void index(Map<K, List<Car>> index, K key, Car car) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new ArrayList<>()).add(car);
+        }
+    }
+
+    private static <K> void freeze(Map<K, List<Car>> index) {
+        index.replaceAll((key, list) -> {
+            ((ArrayList<Car>) list).trimToSize();
+            return Collections.unmodifiableList(list);
+        });
+    }
+
+    private static String key(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return cars.size();
+    }
+
+    public List<Car> getAll() {
+        return cars;
+    }
+
+    public Car findById(long id) {
+        return byId.get(id);
+    }
+
+    public List<Car> findByMake(String make) {
+        return byMake.getOrDefault(key(make), Collections.emptyList());
+    }
+
+    public List<Car> findByModel(String model) {
+        return byModel.getOrDefault(key(model), Collections.emptyList());
+    }
+
+    public List<Car> findByYear(int year) {
+        return byYear.getOrDefault(year, Collections.emptyList());
+    }
+
+    /**
+     * Returns cars priced between min and max, both inclusive
+     */
+    public List<Car> findByPriceRange(double min, double max) {
+        Collection<List<Car>> buckets = byPrice.subMap(min, true, max, true).values();
+        List<Car> result = new ArrayList<>();
+        for (List<Car> bucket : buckets) {
+            result.addAll(bucket);
+        }
+        return result;
+    }
+
+    public List<String> getMakes() {
+        List<String> makes = new ArrayList<>();
+        for (List<Car> carsOfMake : byMake.values()) {
+            makes.add(carsOfMake.get(0).getMake());
+        }
+        Collections.sort(makes);
+        return makes;
+    }
+}
@@ -0,0 +1,168 @@
+package com.qa.data;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Joins the cars returned by the API with the cards shown on the page in one pass
+ * The API cars are hashed by their normalized key field, each card is probed against
+ * that table once, and what is left over was never displayed. Values are compared
+ * as numbers when both sides are numeric, so "$25,000" matches 25000.
+ */
+public class CatalogueComparison {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NUMBER_DECORATION = Pattern.compile("[\\s,$€£]");
+    private static final Pattern NUMBER = Pattern.compile("-?\\d+(\\.\\d+)?");
+    private final String keyField;
+    private final List<String> comparedFields;
+
+    public CatalogueComparison(String keyField, List<String> comparedFields) {
+        this.keyField = keyField;
+        this.comparedFields = new ArrayList<>(comparedFields);
+    }
+
+    public Result compare(List<Map<String, String>> apiCars, List<Map<String, String>> pageCards) {
+        long start = System.nanoTime();
+        List<String> missing = new ArrayList<>();
+        List<String> extra = new ArrayList<>();
+        List<String> mismatched = new ArrayList<>();
+
+        Map<String, Map<String, String>> expected = new LinkedHashMap<>(apiCars.size() * 4 / 3 + 1);
+        for (Map<String, String> car : apiCars) {
+            String key = normalizeText(car.get(keyField));
+            if (expected.putIfAbsent(key, car) != null) {
+                mismatched.add(String.format("%s '%s' is returned more than once by the API", keyField,
+                        car.get(keyField)));
+            }
+        }
+
+        Set<String> matched = new HashSet<>();
+        int matchedCount = 0;
+        for (Map<String, String> card : pageCards) {
+            String key = normalizeText(card.get(keyField));
+            Map<String, String> car = expected.remove(key);
+            if (car == null) {
+                extra.add(matched.contains(key)
+                        ? String.format("%s '%s' is displayed more than once", keyField, card.get(keyField))
+                        : String.format("%s '%s' is displayed but not returned by the API", keyField,
+                        card.get(keyField)));
+                continue;
+            }
+            matched.add(key);
+            matchedCount++;
+            for (String field : comparedFields) {
+                if (!sameValue(car.get(field), card.get(field))) {
+                    mismatched.add(String.format("%s '%s': %s is '%s' on the page but %s in the API", keyField,
+                            car.get(keyField), field, card.get(field), car.get(field)));
+                }
+            }
+        }
+        expected.values().forEach(car -> missing.add(String.format("%s '%s' is returned by the API but not displayed",
+                keyField, car.get(keyField))));
+
+        return new Result(apiCars.size(), pageCards.size(), matchedCount, missing, extra, mismatched,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    static String normalizeText(String value) {
+        return value == null ? "" : WHITESPACE.matcher(value.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Parses prices and other figures as shown on the page, e.g. "$25,000.00"; null when not a number
+     */
+    static BigDecimal normalizeNumber(String value) {
+        if (value == null) {
+            return null;
+        }
+        String digits = NUMBER_DECORATION.matcher(value).replaceAll("");
+        if (!NUMBER.matcher(digits).matches()) {
+            return null;
+        }
+        return new BigDecimal(digits);
+    }
+
+    private static boolean sameValue(String apiValue, String pageValue) {
+        BigDecimal apiNumber = normalizeNumber(apiValue);
+        BigDecimal pageNumber = normalizeNumber(pageValue);
+        if (apiNumber != null && pageNumber != null) {
+            return apiNumber.compareTo(pageNumber) == 0;
+        }
+        return normalizeText(apiValue).equals(normalizeText(pageValue));
+    }
+
+    /**
+     * Missing, extra and mismatched cars found by a comparison
+     */
+    public static final class Result {
+        private final int apiCount;
+        private final int pageCount;
+        private final int matchedCount;
+        private final List<String> missing;
+        private final List<String> extra;
+        private final List<String> mismatched;
+        private final long elapsedMillis;
+
+        private Result(int apiCount, int pageCount, int matchedCount, List<String> missing, List<String> extra,
+                       List<String> mismatched, long elapsedMillis) {
+            this.apiCount = apiCount;
+            this.pageCount = pageCount;
+            this.matchedCount = matchedCount;
+            this.missing = Collections.unmodifiableList(missing);
+            this.extra = Collections.unmodifiableList(extra);
+            this.mismatched = Collections.unmodifiableList(mismatched);
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public boolean isConsistent() {
+            return missing.isEmpty() && extra.isEmpty() && mismatched.isEmpty();
+        }
+
+        public int getMatchedCount() {
+            return matchedCount;
+        }
+
+        public List<String> getMissing() {
+            return missing;
+        }
+
+        public List<String> getExtra() {
+            return extra;
+        }
+
+        public List<String> getMismatched() {
+            return mismatched;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * Summary line followed by at most maxLines differences
+         */
+        public String describe(int maxLines) {
+            List<String> lines = new ArrayList<>();
+            missing.forEach(line -> lines.add("- " + line));
+            extra.forEach(line -> lines.add("+ " + line));
+            mismatched.forEach(line -> lines.add("~ " + line));
+
+            StringBuilder out = new StringBuilder(String.format(
+                    "%d API cars, %d page cards: %d matched, %d missing, %d extra, %d mismatched",
+                    apiCount, pageCount, matchedCount, missing.size(), extra.size(), mismatched.size()));
+            lines.stream().limit(maxLines).forEach(line -> out.append(System.lineSeparator()).append(line));
+            if (lines.size() > maxLines) {
+                out.append(System.lineSeparator()).append("... ").append(lines.size() - maxLines).append(" more");
+            }
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.qa.data;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.qa.api.models.Car;
+import com.qa.common.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared, thread-safe repository of test datasets read from test.data.path
+ * Datasets are loaded on first use, parsed record by record and indexed once,
+ * then served to every scenario and parallel worker
+ */
+public class TestDataRepository {
+    private static final Logger logger = LoggerFactory.getLogger(TestDataRepository.class);
+    private static TestDataRepository instance;
+    private final Path dataDirectory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectReader carReader = objectMapper.readerFor(Car.class);
+    private final Map<String, CarDataset> carDatasets = new ConcurrentHashMap<>();
+
+    private TestDataRepository() {
+        this.dataDirectory = Paths.get(ConfigManager.getInstance().getTestDataPath());
+    }
+
+    public static synchronized TestDataRepository getInstance() {
+        if (instance == null) {
+            instance = new TestDataRepository();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the dataset stored in {test.data.path}/{name}.json, loading it on first use
+     */
+    public CarDataset getCars(String name) {
+        return carDatasets.computeIfAbsent(name, this::loadCars);
+    }
+
+    /**
+     * Registers an in-memory dataset, e.g. built from CarDataGenerator, under the given name
+     */
+    public CarDataset register(String name, List<Car> cars) {
+        CarDataset dataset = new CarDataset(name, new ArrayList<>(cars));
+        carDatasets.put(name, dataset);
+        return dataset;
+    }
+
+    public void evict(String name) {
+        carDatasets.remove(name);
+    }
+
+    private CarDataset loadCars(String name) {
+        Path file = resolve(name);
+        long start = System.nanoTime();
+        List<Car> cars = new ArrayList<>();
+        Set<Long> ids = new HashSet<>();
+        long maxId = 0;
+
+        try (InputStream in = Files.newInputStream(file);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (moveToCarsArray(parser)) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    Car car = carReader.readValue(parser);
+                    if (car.getId() != null) {
+                        if (!ids.add(car.getId())) {
+                            throw new RuntimeException("Duplicate car id " + car.getId() + " in test data: " + file);
+                        }
+                        maxId = Math.max(maxId, car.getId());
+                    }
+                    cars.add(car);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load test data: " + file, e);
+        }
+        assignMissingIds(cars, maxId);
+
+        CarDataset dataset = new CarDataset(name, cars);
+        logger.info("Loaded test dataset '{}' with {} cars in {} ms", name, dataset.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return dataset;
+    }
+
+    /**
+     * Numbers cars without an id after the highest explicit one, so they never collide with it
+     */
+    private static void assignMissingIds(List<Car> cars, long maxId) {
+        long next = maxId;
+        for (Car car : cars) {
+            if (car.getId() == null) {
+                car.setId(++next);
+            }
+        }
+    }
+
+    /**
+     * Positions the parser on the start of the "cars" array, or of a top-level array
+     */
+    private boolean moveToCarsArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            return true;
+        }
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            token = parser.nextToken();
+            if ("cars".equals(field) && token == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private Path resolve(String name) {
+        Path file = dataDirectory.resolve(name.endsWith(".json") ? name : name + ".json");
+        if (!Files.isRegularFile(file)) {
+            throw new RuntimeException("Test data file not found: " + file);
+        }
+        return file;
+    }
+}
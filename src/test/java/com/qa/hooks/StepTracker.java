@@ -0,0 +1,60 @@
+package com.qa.hooks;
+
+import com.qa.common.StepContext;
+import com.qa.common.jfr.StepEvent;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * Cucumber plugin tracking the scenario and step running on each thread
+ * Registered through the cucumber.plugin parameter of the test runners
+ */
+public class StepTracker implements ConcurrentEventListener {
+    private static final ThreadLocal<StepEvent> stepEvent = new ThreadLocal<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onTestCaseStarted);
+        publisher.registerHandlerFor(TestStepStarted.class, this::onTestStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+    }
+
+    private void onTestCaseStarted(TestCaseStarted event) {
+        StepContext.scenarioStarted(event.getTestCase().getName());
+    }
+
+    private void onTestStepStarted(TestStepStarted event) {
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+            StepContext.stepStarted(step.getStep().getKeyword() + step.getStep().getText());
+
+            StepEvent jfrEvent = new StepEvent();
+            jfrEvent.scenario = StepContext.getScenario();
+            jfrEvent.step = StepContext.getStep();
+            jfrEvent.begin();
+            stepEvent.set(jfrEvent);
+        }
+    }
+
+    private void onTestStepFinished(TestStepFinished event) {
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            StepEvent jfrEvent = stepEvent.get();
+            if (jfrEvent != null) {
+                jfrEvent.status = event.getResult().getStatus().name();
+                jfrEvent.commit();
+                stepEvent.remove();
+            }
+            StepContext.stepFinished();
+        }
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        StepContext.scenarioFinished();
+    }
+}
@@ -1,12 +1,25 @@
 package com.qa.hooks;
 
+import com.qa.api.ApiClient;
+import com.qa.api.CircuitBreaker;
+import com.qa.api.latency.LatencyRegressionGate;
 import com.qa.common.ConfigManager;
+import com.qa.common.DriverCommandTracker;
 import com.qa.common.DriverManager;
+import com.qa.common.ExecutionManifest;
+import com.qa.common.JvmStartupReport;
+import com.qa.common.ResourceLeakDetector;
+import com.qa.common.ScenarioDeadline;
+import com.qa.common.StepWatchdog;
 import com.qa.common.TestContext;
+import com.qa.common.jfr.FlightRecorderSession;
+import com.qa.common.proxy.FaultInjectionProxy;
+import com.qa.common.jfr.ScenarioEvent;
 import io.cucumber.java.*;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.opentest4j.TestAbortedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,7 +37,11 @@ import java.time.format.DateTimeFormatter;
  */
 public class TestHooks {
     private static final Logger logger = LoggerFactory.getLogger(TestHooks.class);
+    private static final String DRIVER_BUDGET_TAG = "@driverCommandBudget=";
+    private static final String SCENARIO_BUDGET_TAG = "@scenarioBudget=";
+    private static final String STEP_WATCHDOG_TAG = "@stepWatchdog=";
     private final TestContext context;
+    private ScenarioEvent scenarioEvent;
 
     public TestHooks(TestContext context) {
         this.context = context;
@@ -32,16 +49,63 @@ public class TestHooks {
 
     @BeforeAll
     public static void beforeAll() {
+        JvmStartupReport.recordOnce();
         logger.info("==========================================");
         logger.info("Starting Test Execution");
         logger.info("==========================================");
         createDirectories();
+        FlightRecorderSession.startIfEnabled();
+        if (ConfigManager.getInstance().isApiHealthGateEnabled()) {
+            checkApiHealth();
+        }
+    }
+
+    /**
+     * Opens the API circuit up front when the health endpoint is down, so API scenarios
+     * are skipped at once instead of each timing out
+     */
+    private static void checkApiHealth() {
+        String endpoint = ConfigManager.getInstance().getApiHealthGateEndpoint();
+        String reason;
+        try {
+            int status = new ApiClient().get(endpoint).getStatusCode();
+            if (status >= 200 && status < 300) {
+                logger.info("API health gate passed: GET {} returned {}", endpoint, status);
+                return;
+            }
+            reason = "health gate GET " + endpoint + " returned " + status;
+        } catch (RuntimeException e) {
+            reason = "health gate GET " + endpoint + " failed: " + e.getMessage();
+        }
+        logger.error("API health gate failed, {}", reason);
+        CircuitBreaker.getInstance().trip(reason);
     }
 
     @Before
     public void before(Scenario scenario) {
         logger.info("Starting scenario: {}", scenario.getName());
         logger.info("Tags: {}", scenario.getSourceTagNames());
+
+        scenarioEvent = new ScenarioEvent();
+        scenarioEvent.scenario = scenario.getName();
+        scenarioEvent.tags = String.join(" ", scenario.getSourceTagNames());
+        scenarioEvent.begin();
+
+        // Soak runs repeat the same scenarios for hours; they are neither resumed nor rerun
+        if (!ConfigManager.getInstance().isSoakRun()) {
+            String scenarioId = scenarioId(scenario);
+            ExecutionManifest manifest = ExecutionManifest.getInstance();
+            if (manifest.hasAlreadyPassed(scenarioId)) {
+                logger.info("Skipping scenario already passed in resumed run: {}", scenarioId);
+                throw new TestAbortedException("Scenario already passed in the resumed run: " + scenarioId);
+            }
+            manifest.recordStarted(scenarioId, scenario.getName());
+        }
+
+        ScenarioDeadline.start(getScenarioBudgetSeconds(scenario));
+        if (ConfigManager.getInstance().isLeakDetectionEnabled()) {
+            ResourceLeakDetector.getInstance().scenarioStarted();
+        }
     }
 
     @Before("@ui")
@@ -54,6 +118,58 @@ public class TestHooks {
     public void beforeApiScenario(Scenario scenario) {
         logger.info("Initializing API test for scenario: {}", scenario.getName());
         // API client setup is handled in step definitions
+        CircuitBreaker breaker = CircuitBreaker.getInstance();
+        if (breaker.isOpen()) {
+            String reason = "API unavailable: " + breaker.getOpenReason();
+            logger.warn("{} - {} scenario: {}", reason,
+                    ConfigManager.getInstance().isSkipWhenApiUnavailable() ? "skipping" : "failing", scenario.getName());
+            if (ConfigManager.getInstance().isSkipWhenApiUnavailable()) {
+                throw new TestAbortedException(reason);
+            }
+            throw new AssertionError(reason);
+        }
+    }
+
+    @BeforeStep
+    public void armStepWatchdog(Scenario scenario) {
+        long seconds = getStepWatchdogSeconds(scenario);
+        if (seconds > 0) {
+            StepWatchdog.getInstance().stepStarted(scenario.getName(), seconds);
+        }
+    }
+
+    /**
+     * Fails a step the watchdog aborted, attaching what it captured when the step overran
+     */
+    @AfterStep
+    public void checkStepWatchdog(Scenario scenario) {
+        StepWatchdog.Diagnostics diagnostics = StepWatchdog.getInstance().stepFinished();
+        if (diagnostics == null) {
+            return;
+        }
+        scenario.attach(diagnostics.getReport(), "text/plain", "Step watchdog diagnostics");
+        if (diagnostics.getScreenshot() != null) {
+            scenario.attach(diagnostics.getScreenshot(), "image/png", "Screenshot when the step overran");
+        }
+        throw new AssertionError(diagnostics.getSummary() + ", see " + diagnostics.getReportFile());
+    }
+
+    @AfterStep
+    public void afterStep(Scenario scenario) {
+        if (ScenarioDeadline.isExhausted()) {
+            throw new AssertionError(String.format("Scenario exceeded its time budget of %ds",
+                    ScenarioDeadline.getBudgetSeconds()));
+        }
+
+        int budget = getDriverCommandBudget(scenario);
+        if (budget <= 0) {
+            return;
+        }
+        int commands = DriverCommandTracker.getInstance().getLastStepCommandCount();
+        if (commands > budget) {
+            throw new AssertionError(String.format(
+                    "Step used %d WebDriver commands, exceeding the budget of %d", commands, budget));
+        }
     }
 
     @After
@@ -65,25 +181,116 @@ public class TestHooks {
             handleFailure(scenario);
         }
 
+        if (scenario.getStatus() != Status.SKIPPED && !ConfigManager.getInstance().isSoakRun()) {
+            ExecutionManifest.getInstance().recordFinished(
+                    scenarioId(scenario),
+                    scenario.getName(), scenario.getStatus().name());
+        }
+
         // Clear context after each scenario
         context.clearContext();
+        ScenarioDeadline.clear();
+        StepWatchdog.getInstance().stepFinished();
+        // Faults injected by the scenario say nothing about the real API; failures seen through
+        // the configured profile still count, and so does an open circuit from the health gate
+        if (FaultInjectionProxy.isRunning() && FaultInjectionProxy.getInstance().resetProfile()) {
+            CircuitBreaker.getInstance().reset();
+        }
+
+        if (scenarioEvent != null) {
+            scenarioEvent.status = scenario.getStatus().name();
+            scenarioEvent.commit();
+        }
     }
 
-    @After("@ui")
-    public void afterUiScenario(Scenario scenario) {
-        WebDriver driver = context.getDriver();
-        if (driver != null) {
-            logger.info("Closing browser for scenario: {}", scenario.getName());
-            DriverManager.quitDriver();
-            context.setDriver(null);
+    /**
+     * Releases the thread's browser whoever created it; the context may not know about it
+     * Runs after after(), which needs the browser for the failure screenshot
+     */
+    @After(order = 1)
+    public void releaseBrowser(Scenario scenario) {
+        if (DriverManager.hasDriver()) {
+            logger.info("Releasing browser for scenario: {}", scenario.getName());
+            DriverManager.releaseDriver(scenario.isFailed());
+        }
+        context.setDriver(null);
+    }
+
+    /**
+     * Runs last among the After hooks, once the browser has been released
+     */
+    @After(order = 0)
+    public void checkForLeaks(Scenario scenario) {
+        if (ConfigManager.getInstance().isLeakDetectionEnabled()) {
+            ResourceLeakDetector.getInstance().scenarioFinished(scenario.getName());
         }
     }
 
     @AfterAll
     public static void afterAll() {
+        // The test daemon keeps its browser warm between runs, the soak runner keeps it across
+        // iterations, and matrix runs quit their own browsers since other browsers are still running
+        ConfigManager config = ConfigManager.getInstance();
+        if (!config.isDaemonMode() && !config.isSoakRun() && !config.isBrowserMatrixRun()) {
+            DriverManager.quitAllDrivers();
+            if (config.isLeakDetectionEnabled()) {
+                ResourceLeakDetector.getInstance().reclaimOrphans();
+            }
+        }
+        if (config.isLeakDetectionEnabled()) {
+            ResourceLeakDetector.getInstance().writeReport();
+        }
+        // Matrix browsers finish concurrently, each with its own report next to its Cucumber reports
+        String browser = DriverManager.getBrowserOverride();
+        DriverCommandTracker.getInstance().writeReport(browser == null
+                        ? "target/reports/driver-commands.txt"
+                        : "target/reports/matrix-" + browser + "-driver-commands.txt",
+                config.getDriverCommandReportSize());
         logger.info("==========================================");
         logger.info("Test Execution Completed");
         logger.info("==========================================");
+
+        // Last, so a latency regression fails the run only after all reports are written;
+        // the soak runner does this once at the end instead of after every iteration
+        if (config.isLatencyRecordingEnabled() && !config.isSoakRun()) {
+            LatencyRegressionGate.finishRun();
+        }
+    }
+
+    /**
+     * Manifest id of the scenario, qualified with the browser in cross-browser matrix runs
+     */
+    private static String scenarioId(Scenario scenario) {
+        String id = ExecutionManifest.scenarioId(scenario.getUri().toString(), scenario.getLine());
+        String browser = DriverManager.getBrowserOverride();
+        return browser == null ? id : id + "[" + browser + "]";
+    }
+
+    private long getScenarioBudgetSeconds(Scenario scenario) {
+        for (String tag : scenario.getSourceTagNames()) {
+            if (tag.startsWith(SCENARIO_BUDGET_TAG)) {
+                return Long.parseLong(tag.substring(SCENARIO_BUDGET_TAG.length()));
+            }
+        }
+        return ConfigManager.getInstance().getScenarioBudgetSeconds();
+    }
+
+    private long getStepWatchdogSeconds(Scenario scenario) {
+        for (String tag : scenario.getSourceTagNames()) {
+            if (tag.startsWith(STEP_WATCHDOG_TAG)) {
+                return Long.parseLong(tag.substring(STEP_WATCHDOG_TAG.length()));
+            }
+        }
+        return ConfigManager.getInstance().getStepWatchdogSeconds();
+    }
+
+    private int getDriverCommandBudget(Scenario scenario) {
+        for (String tag : scenario.getSourceTagNames()) {
+            if (tag.startsWith(DRIVER_BUDGET_TAG)) {
+                return Integer.parseInt(tag.substring(DRIVER_BUDGET_TAG.length()));
+            }
+        }
+        return ConfigManager.getInstance().getDriverCommandStepBudget();
     }
 
     private void handleFailure(Scenario scenario) {
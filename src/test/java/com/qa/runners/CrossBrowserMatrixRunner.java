@@ -0,0 +1,116 @@
+package com.qa.runners;
+
+import com.qa.common.ConfigManager;
+import com.qa.common.DriverManager;
+import com.qa.common.ResourceLeakDetector;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the UI scenarios against every browser in browser.matrix concurrently, in one JVM
+ * Each browser gets its own thread, browsers and reports (target/reports/matrix-&lt;browser&gt;-*),
+ * while configuration, API clients and test data are shared
+ *
+ * Not picked up by the TestRunner* suites; run with:
+ *   mvn test -Dtest=CrossBrowserMatrixRunner -Dbrowser.matrix=chrome,firefox
+ */
+public class CrossBrowserMatrixRunner {
+    private static final Logger logger = LoggerFactory.getLogger(CrossBrowserMatrixRunner.class);
+    private static final String REPORT_PATH = "target/reports/browser-matrix.txt";
+
+    @Test
+    void runUiScenariosOnAllBrowsers() throws Exception {
+        ConfigManager config = ConfigManager.getInstance();
+        List<String> browsers = config.getBrowserMatrix();
+        assertThat(browsers).as("browser.matrix").isNotEmpty();
+        System.setProperty("browser.matrix.active", "true");
+        logger.info("Running '{}' on {} concurrently", config.getBrowserMatrixTags(), browsers);
+
+        ExecutorService executor = Executors.newFixedThreadPool(browsers.size());
+        Map<String, Future<TestExecutionSummary>> runs = new LinkedHashMap<>();
+        Map<String, Long> durations = new LinkedHashMap<>();
+        try {
+            for (String browser : browsers) {
+                runs.put(browser, executor.submit(() -> runBrowser(browser, config.getBrowserMatrixTags(), durations)));
+            }
+
+            Map<String, TestExecutionSummary> results = new LinkedHashMap<>();
+            for (Map.Entry<String, Future<TestExecutionSummary>> run : runs.entrySet()) {
+                results.put(run.getKey(), run.getValue().get());
+            }
+            writeReport(results, durations);
+
+            List<String> failedBrowsers = new ArrayList<>();
+            results.forEach((browser, summary) -> {
+                if (summary.getTotalFailureCount() > 0) {
+                    failedBrowsers.add(browser + " (" + summary.getTotalFailureCount() + " failed)");
+                }
+            });
+            assertThat(failedBrowsers).as("Browsers with failing scenarios, see " + REPORT_PATH).isEmpty();
+        } finally {
+            executor.shutdownNow();
+            System.clearProperty("browser.matrix.active");
+            if (config.isLeakDetectionEnabled()) {
+                ResourceLeakDetector.getInstance().reclaimOrphans();
+            }
+        }
+    }
+
+    private TestExecutionSummary runBrowser(String browser, String tags, Map<String, Long> durations) {
+        Thread.currentThread().setName("matrix-" + browser);
+        DriverManager.setBrowser(browser);
+        long start = System.nanoTime();
+        try {
+            return new CucumberLauncher()
+                    .tags(tags)
+                    .reportName("matrix-" + browser)
+                    .execute();
+        } finally {
+            DriverManager.quitDriver();
+            DriverManager.clearBrowser();
+            synchronized (durations) {
+                durations.put(browser, (System.nanoTime() - start) / 1_000_000);
+            }
+        }
+    }
+
+    private void writeReport(Map<String, TestExecutionSummary> results, Map<String, Long> durations)
+            throws IOException {
+        Path path = Paths.get(REPORT_PATH);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            // Scenarios excluded by the tag filter are reported as skipped by the engine and not counted
+            String header = String.format("%-10s %9s %8s %8s %8s %10s", "Browser", "Scenarios", "Passed",
+                    "Failed", "Skipped", "Time (s)");
+            out.println(header);
+            logger.info(header);
+            results.forEach((browser, summary) -> {
+                String row = String.format("%-10s %9d %8d %8d %8d %10.1f", browser, summary.getTestsStartedCount(),
+                        summary.getTestsSucceededCount(), summary.getTestsFailedCount(),
+                        summary.getTestsAbortedCount(),
+                        durations.getOrDefault(browser, 0L) / 1000.0);
+                out.println(row);
+                logger.info(row);
+            });
+        }
+        logger.info("Browser matrix report written to {}", path);
+    }
+}
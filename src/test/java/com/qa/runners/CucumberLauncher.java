@@ -0,0 +1,116 @@
+package com.qa.runners;
+
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.discovery.FilePosition;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs Cucumber features programmatically inside the current JVM
+ * Used by runners that execute several Cucumber runs in one process, reusing its
+ * loaded classes, configuration, HTTP clients and browsers
+ */
+public class CucumberLauncher {
+    public static final String DEFAULT_FEATURES = "src/test/resources/features";
+    private static final String GLUE = "com.qa.steps,com.qa.hooks";
+
+    private final List<String> features = new ArrayList<>();
+    private final Map<String, String> parameters = new HashMap<>();
+    private final List<TestExecutionListener> listeners = new ArrayList<>();
+    private String reportName = "launcher";
+
+    public CucumberLauncher features(List<String> featurePaths) {
+        features.addAll(featurePaths);
+        return this;
+    }
+
+    public CucumberLauncher tags(String tagExpression) {
+        if (tagExpression != null && !tagExpression.trim().isEmpty()) {
+            parameters.put("cucumber.filter.tags", tagExpression.trim());
+        }
+        return this;
+    }
+
+    /**
+     * Sets the prefix of the HTML and JSON reports written to target/reports
+     */
+    public CucumberLauncher reportName(String name) {
+        this.reportName = name;
+        return this;
+    }
+
+    public CucumberLauncher parameter(String key, String value) {
+        parameters.put(key, value);
+        return this;
+    }
+
+    public CucumberLauncher listener(TestExecutionListener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    public LauncherDiscoveryRequest buildRequest() {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put("cucumber.glue", GLUE);
+        configuration.put("cucumber.publish.enabled", "false");
+        configuration.put("cucumber.plugin", "pretty, com.qa.hooks.StepTracker, "
+                + "html:target/reports/" + reportName + "-cucumber-reports.html, "
+                + "json:target/reports/" + reportName + "-cucumber.json");
+        configuration.putAll(parameters);
+
+        return LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectors())
+                .filters(EngineFilter.includeEngines("cucumber"))
+                .configurationParameters(configuration)
+                .build();
+    }
+
+    public TestExecutionSummary execute() {
+        SummaryGeneratingListener summary = new SummaryGeneratingListener();
+        List<TestExecutionListener> all = new ArrayList<>(listeners);
+        all.add(summary);
+
+        Launcher launcher = LauncherFactory.create();
+        launcher.execute(buildRequest(), all.toArray(new TestExecutionListener[0]));
+        return summary.getSummary();
+    }
+
+    /**
+     * Accepts feature files, directories and file:line references
+     */
+    private List<DiscoverySelector> selectors() {
+        List<String> paths = features.isEmpty() ? List.of(DEFAULT_FEATURES) : features;
+        List<DiscoverySelector> selectors = new ArrayList<>();
+        for (String path : paths) {
+            String file = path;
+            Integer line = null;
+            int colon = path.lastIndexOf(':');
+            if (colon > 1 && path.substring(colon + 1).matches("\\d+")) {
+                file = path.substring(0, colon);
+                line = Integer.parseInt(path.substring(colon + 1));
+            }
+
+            if (new File(file).isDirectory()) {
+                selectors.add(DiscoverySelectors.selectDirectory(file));
+            } else if (line != null) {
+                selectors.add(DiscoverySelectors.selectFile(file, FilePosition.from(line)));
+            } else {
+                selectors.add(DiscoverySelectors.selectFile(file));
+            }
+        }
+        return selectors;
+    }
+}
@@ -0,0 +1,140 @@
+package com.qa.runners;
+
+import com.qa.common.ConfigManager;
+import com.qa.common.DriverManager;
+import com.qa.ui.load.LoadMetrics;
+import com.qa.ui.load.LoadSchedule;
+import com.qa.ui.pages.CarsShowroomPage;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Simulates concurrent users of the Cars Showroom with real browsers, ramped on load.stages
+ * Every user owns a DriverManager browser on its own thread and repeats the journey "open the
+ * showroom, wait for the car cards" with a randomised think time in between. Sessions are
+ * released after each journey, so with reset isolation every journey is a first visit.
+ * Journey times and Navigation/Paint Timing metrics are aggregated in
+ * target/reports/showroom-load.txt.
+ *
+ * Not picked up by the TestRunner* suites; run with:
+ *   mvn test -Dtest=ShowroomLoadRunner -Dload.stages=1m:20,3m:20,30s:0
+ */
+public class ShowroomLoadRunner {
+    private static final Logger logger = LoggerFactory.getLogger(ShowroomLoadRunner.class);
+    private static final long CONTROL_INTERVAL_MILLIS = 250;
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final AtomicInteger activeUsers = new AtomicInteger();
+    private final AtomicInteger targetUsers = new AtomicInteger();
+    private long startNanos;
+
+    @Test
+    void simulateShowroomUsers() throws InterruptedException {
+        LoadSchedule schedule = LoadSchedule.parse(config.getLoadStages());
+        LoadMetrics metrics = new LoadMetrics(config.getLoadReportIntervalSeconds() * 1000L);
+        String previousHeadless = System.getProperty("headless");
+        if (config.isLoadHeadless()) {
+            System.setProperty("headless", "true");
+        }
+        logger.info("Simulating up to {} showroom users, stages {}", schedule.getPeakUsers(), schedule);
+
+        AtomicInteger userIds = new AtomicInteger();
+        ExecutorService users = Executors.newCachedThreadPool(runnable ->
+                new Thread(runnable, "load-user-" + userIds.incrementAndGet()));
+        startNanos = System.nanoTime();
+        try {
+            long elapsed;
+            while ((elapsed = elapsedMillis()) < schedule.getTotalMillis()) {
+                int wanted = schedule.usersAt(elapsed);
+                targetUsers.set(wanted);
+                while (activeUsers.get() < wanted) {
+                    activeUsers.incrementAndGet();
+                    users.submit(() -> runUser(metrics));
+                }
+                metrics.recordUsers(elapsed, activeUsers.get());
+                Thread.sleep(CONTROL_INTERVAL_MILLIS);
+            }
+            targetUsers.set(0);
+        } finally {
+            users.shutdown();
+            if (!users.awaitTermination(config.getBrowserTimeout() + 60L, TimeUnit.SECONDS)) {
+                users.shutdownNow();
+            }
+            restoreProperty("headless", previousHeadless);
+        }
+
+        metrics.writeReport(Paths.get(config.getLoadReportPath()), schedule, elapsedMillis());
+        assertThat(metrics.getJourneys()).as("Completed showroom journeys").isPositive();
+        assertThat(metrics.getErrorRate()).as("Journey error rate").isLessThanOrEqualTo(config.getLoadMaxErrorRate());
+        if (config.getLoadMaxJourneyP95Millis() > 0) {
+            assertThat(metrics.percentile(LoadMetrics.JOURNEY, 95)).as("Journey p95 in ms")
+                    .isLessThanOrEqualTo(config.getLoadMaxJourneyP95Millis());
+        }
+    }
+
+    private void runUser(LoadMetrics metrics) {
+        String baseUrl = config.getBaseUrl();
+        try {
+            while (!shouldStop()) {
+                try {
+                    CarsShowroomPage page = new CarsShowroomPage(DriverManager.getDriver());
+                    long journeyStart = System.nanoTime();
+                    page.navigateTo(baseUrl);
+                    page.waitForCarsDisplayed();
+                    long journeyMillis = (System.nanoTime() - journeyStart) / 1_000_000;
+                    Map<String, Double> timings = page.getPageTimings();
+                    metrics.recordJourney(elapsedMillis(), journeyMillis, timings);
+                    DriverManager.releaseDriver(false);
+                } catch (RuntimeException e) {
+                    metrics.recordError(elapsedMillis(), e);
+                    logger.warn("Showroom journey failed: {}", e.getMessage());
+                    DriverManager.releaseDriver(true);
+                }
+                long thinkTime = config.getLoadThinkTimeMillis();
+                Thread.sleep(thinkTime / 2 + ThreadLocalRandom.current().nextLong(thinkTime + 1));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            DriverManager.quitDriver();
+        }
+    }
+
+    /**
+     * Lets one user leave when more users are active than the schedule asks for
+     */
+    private boolean shouldStop() {
+        while (true) {
+            int active = activeUsers.get();
+            if (active <= targetUsers.get()) {
+                return false;
+            }
+            if (activeUsers.compareAndSet(active, active - 1)) {
+                return true;
+            }
+        }
+    }
+
+    private long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static void restoreProperty(String key, String value) {
+        if (value == null) {
+            System.clearProperty(key);
+        } else {
+            System.setProperty(key, value);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.qa.runners;
+
+import com.qa.api.latency.LatencyRegressionGate;
+import com.qa.common.ConfigManager;
+import com.qa.common.DriverManager;
+import com.qa.common.ResourceLeakDetector;
+import com.qa.common.soak.SoakMonitor;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repeats the smoke scenarios for soak.duration.minutes in one JVM and reports how
+ * latency percentiles, retained heap and browser memory evolve over the run
+ * (target/reports/soak-report.txt). Fails on scenario failures, latency drift or memory growth.
+ * Like the test daemon, the runner keeps one browser for the whole soak, so its memory trend
+ * shows growth of a long-lived browser rather than of fresh ones.
+ *
+ * Not picked up by the TestRunner* suites; run with:
+ *   mvn test -Dtest=SoakRunner -Dsoak.duration.minutes=120 -Dheadless=true
+ */
+public class SoakRunner {
+    private static final Logger logger = LoggerFactory.getLogger(SoakRunner.class);
+
+    @Test
+    void soakSmokeScenarios() {
+        System.setProperty("soak.active", "true");
+        if (System.getProperty("browser.isolation") == null) {
+            System.setProperty("browser.isolation", "reset");
+        }
+        if (System.getProperty("browser.max.reuse") == null) {
+            System.setProperty("browser.max.reuse", String.valueOf(Integer.MAX_VALUE));
+        }
+        ConfigManager config = ConfigManager.getInstance();
+        long deadline = System.nanoTime() + (long) (config.getSoakDurationMinutes() * 60_000_000_000.0);
+        logger.info("Soaking '{}' in {} for {} minutes", config.getSoakTags(), config.getSoakFeatures(),
+                config.getSoakDurationMinutes());
+
+        SoakMonitor monitor = new SoakMonitor();
+        monitor.start();
+        try {
+            do {
+                new CucumberLauncher()
+                        .features(config.getSoakFeatures())
+                        .tags(config.getSoakTags())
+                        .reportName("soak")
+                        .listener(monitor)
+                        .execute();
+                monitor.iterationFinished();
+                logger.info("Soak iteration {} finished, {} failed scenarios so far", monitor.getIterations(),
+                        monitor.getFailures());
+            } while (System.nanoTime() < deadline);
+        } finally {
+            monitor.stop();
+            DriverManager.quitAllDrivers();
+            if (config.isLeakDetectionEnabled()) {
+                ResourceLeakDetector.getInstance().reclaimOrphans();
+            }
+            System.clearProperty("soak.active");
+        }
+
+        List<String> findings = monitor.analyzeTrends();
+        monitor.writeReport(Paths.get(config.getSoakReportPath()));
+        if (config.isLatencyRecordingEnabled()) {
+            LatencyRegressionGate.finishRun();
+        }
+        assertThat(monitor.getFailures()).as("Failed scenarios during the soak run").isZero();
+        assertThat(findings).as("Latency drift and memory growth, see " + config.getSoakReportPath()).isEmpty();
+    }
+}
@@ -0,0 +1,224 @@
+package com.qa.runners;
+
+import com.qa.common.ConfigManager;
+import com.qa.common.DriverManager;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Long-running local test daemon for fast developer iteration
+ * Keeps one JVM with loaded glue, configuration and a warm browser, and runs the
+ * features or tags submitted over a localhost socket (see run-tests.sh submit)
+ *
+ * Protocol, one tab-separated line per request:
+ *   RUN &lt;tag expression&gt; &lt;comma-separated features or file:line&gt;
+ *   PING
+ *   STOP
+ */
+public class TestDaemon {
+    private static final Logger logger = LoggerFactory.getLogger(TestDaemon.class);
+
+    // All runs share one thread so its ThreadLocal browser is reused between requests
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "test-daemon-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final int port;
+    private volatile boolean running = true;
+
+    public TestDaemon(int port) {
+        this.port = port;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("daemon.mode", "true");
+        if (System.getProperty("browser.isolation") == null) {
+            System.setProperty("browser.isolation", "reset");
+        }
+        new TestDaemon(ConfigManager.getInstance().getDaemonPort()).serve();
+    }
+
+    public void serve() throws IOException, InterruptedException, ExecutionException {
+        warmUp();
+
+        try (ServerSocket server = new ServerSocket(port, 1, InetAddress.getLoopbackAddress())) {
+            logger.info("Test daemon listening on localhost:{}", port);
+            while (running) {
+                try (Socket socket = server.accept()) {
+                    handle(socket);
+                } catch (IOException e) {
+                    logger.warn("Daemon client error: {}", e.getMessage());
+                }
+            }
+        } finally {
+            runner.submit(DriverManager::quitAllDrivers).get();
+            runner.shutdown();
+            logger.info("Test daemon stopped");
+        }
+    }
+
+    /**
+     * Loads configuration and glue classes, and optionally starts the browser
+     */
+    private void warmUp() throws InterruptedException, ExecutionException {
+        long start = System.nanoTime();
+        runner.submit(() -> {
+            ConfigManager config = ConfigManager.getInstance();
+            LauncherFactory.create().discover(new CucumberLauncher().buildRequest());
+            if (config.shouldWarmDaemonBrowser()) {
+                try {
+                    DriverManager.getDriver();
+                } catch (Exception e) {
+                    logger.warn("Browser warm-up failed, it will be started on first use: {}", e.getMessage());
+                }
+            }
+        }).get();
+        logger.info("Test daemon warmed up in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void handle(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        PrintWriter writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        String request = reader.readLine();
+        if (request == null) {
+            return;
+        }
+
+        String[] parts = request.split("\t", -1);
+        switch (parts[0].trim().toUpperCase()) {
+            case "PING":
+                writer.println("PONG");
+                break;
+            case "STOP":
+                running = false;
+                writer.println("STOPPING");
+                break;
+            case "RUN":
+                String tags = parts.length > 1 ? parts[1] : "";
+                List<String> features = parts.length > 2 ? splitFeatures(parts[2]) : new ArrayList<>();
+                int exitCode = run(tags, features, socket.getOutputStream());
+                writer.println("EXIT " + exitCode);
+                break;
+            default:
+                writer.println("ERROR Unknown request: " + parts[0]);
+                writer.println("EXIT 2");
+        }
+    }
+
+    private int run(String tags, List<String> features, OutputStream client) {
+        logger.info("Daemon run requested, tags: '{}', features: {}", tags, features);
+        long start = System.nanoTime();
+        PrintStream originalOut = System.out;
+        PrintStream tee = new PrintStream(new TeeOutputStream(originalOut, client), true, StandardCharsets.UTF_8);
+
+        try {
+            TestExecutionSummary summary = runner.submit(() -> {
+                System.setOut(tee);
+                try {
+                    return new CucumberLauncher()
+                            .features(features)
+                            .tags(tags)
+                            .reportName("daemon")
+                            .execute();
+                } finally {
+                    System.setOut(originalOut);
+                }
+            }).get();
+
+            summary.printTo(new PrintWriter(tee));
+            summary.printFailuresTo(new PrintWriter(tee), 10);
+            tee.printf("Finished in %d ms%n", (System.nanoTime() - start) / 1_000_000);
+            return summary.getTotalFailureCount() == 0 ? 0 : 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 2;
+        } catch (ExecutionException e) {
+            logger.error("Daemon run failed", e.getCause());
+            tee.println("ERROR " + e.getCause());
+            return 2;
+        } finally {
+            tee.flush();
+        }
+    }
+
+    private static List<String> splitFeatures(String value) {
+        List<String> features = new ArrayList<>();
+        for (String feature : Arrays.asList(value.split(","))) {
+            if (!feature.trim().isEmpty()) {
+                features.add(feature.trim());
+            }
+        }
+        return features;
+    }
+
+    /**
+     * Copies run output to the daemon console and the client; a disconnected client is ignored
+     */
+    private static class TeeOutputStream extends OutputStream {
+        private final OutputStream primary;
+        private final OutputStream secondary;
+        private boolean secondaryOpen = true;
+
+        TeeOutputStream(OutputStream primary, OutputStream secondary) {
+            this.primary = primary;
+            this.secondary = secondary;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            primary.write(b);
+            if (secondaryOpen) {
+                try {
+                    secondary.write(b);
+                } catch (IOException e) {
+                    secondaryOpen = false;
+                }
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            primary.write(b, off, len);
+            if (secondaryOpen) {
+                try {
+                    secondary.write(b, off, len);
+                } catch (IOException e) {
+                    secondaryOpen = false;
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            primary.flush();
+            if (secondaryOpen) {
+                try {
+                    secondary.flush();
+                } catch (IOException e) {
+                    secondaryOpen = false;
+                }
+            }
+        }
+    }
+}
@@ -9,7 +9,7 @@ import org.junit.platform.suite.api.*;
 @Suite
 @IncludeEngines("cucumber")
 @SelectClasspathResource("features")
-@ConfigurationParameter(key = "cucumber.plugin", value = "pretty, html:target/reports/cucumber-reports.html, json:target/reports/cucumber.json")
+@ConfigurationParameter(key = "cucumber.plugin", value = "pretty, com.qa.hooks.StepTracker, html:target/reports/cucumber-reports.html, json:target/reports/cucumber.json")
 @ConfigurationParameter(key = "cucumber.glue", value = "com.qa.steps,com.qa.hooks")
 @ConfigurationParameter(key = "cucumber.features", value = "src/test/resources/features")
 @ConfigurationParameter(key = "cucumber.publish.enabled", value = "false")
@@ -9,7 +9,7 @@ import org.junit.platform.suite.api.*;
 @Suite
 @IncludeEngines("cucumber")
 @SelectClasspathResource("features")
-@ConfigurationParameter(key = "cucumber.plugin", value = "pretty, html:target/reports/smoke-cucumber-reports.html, json:target/reports/smoke-cucumber.json")
+@ConfigurationParameter(key = "cucumber.plugin", value = "pretty, com.qa.hooks.StepTracker, html:target/reports/smoke-cucumber-reports.html, json:target/reports/smoke-cucumber.json")
 @ConfigurationParameter(key = "cucumber.glue", value = "com.qa.steps,com.qa.hooks")
 @ConfigurationParameter(key = "cucumber.features", value = "src/test/resources/features")
 @ConfigurationParameter(key = "cucumber.filter.tags", value = "@smoke")
@@ -9,10 +9,10 @@ import org.junit.platform.suite.api.*;
 @Suite
 @IncludeEngines("cucumber")
 @SelectClasspathResource("features")
-@ConfigurationParameter(key = "cucumber.plugin", value = "pretty, html:target/reports/ui-cucumber-reports.html, json:target/reports/ui-cucumber.json")
+@ConfigurationParameter(key = "cucumber.plugin", value = "pretty, com.qa.hooks.StepTracker, html:target/reports/ui-cucumber-reports.html, json:target/reports/ui-cucumber.json")
 @ConfigurationParameter(key = "cucumber.glue", value = "com.qa.steps,com.qa.hooks")
 @ConfigurationParameter(key = "cucumber.features", value = "src/test/resources/features/ui")
-@ConfigurationParameter(key = "cucumber.filter.tags", value = "@ui")
+@ConfigurationParameter(key = "cucumber.filter.tags", value = "@ui and not @visual")
 @ConfigurationParameter(key = "cucumber.publish.enabled", value = "false")
 public class TestRunnerUi {
     // This class will be empty - configuration is in annotations
@@ -1,8 +1,13 @@
 package com.qa.steps;
 
 import com.qa.api.CarsApiClient;
+import com.qa.api.StreamingCollectionValidator;
+import com.qa.api.models.HttpResult;
+import com.qa.api.snapshot.SnapshotManager;
+import com.qa.api.snapshot.SnapshotResult;
 import com.qa.common.ConfigManager;
 import com.qa.common.TestContext;
+import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -11,8 +16,12 @@ import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.InputStream;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -21,6 +30,8 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class ApiSteps {
     private static final Logger logger = LoggerFactory.getLogger(ApiSteps.class);
+    private static final String CONCURRENT_RESPONSES = "concurrentResponses";
+    private static final String[] REQUIRED_CAR_FIELDS = {"id", "name", "price", "image"};
     private final TestContext context;
     private final CarsApiClient carsApiClient;
 
@@ -51,6 +62,42 @@ public class ApiSteps {
         logger.info("GET request sent to: {}, Status: {}", endpoint, response.getStatusCode());
     }
 
+    @When("I fetch the first {int} listed cars by id")
+    public void iFetchTheFirstListedCarsById(int count) {
+        List<Integer> ids = context.getApiResponse().jsonPath().getList("cars.id", Integer.class);
+        assertThat(ids).as("Listed car ids").isNotEmpty();
+        List<HttpResult> results = carsApiClient.getCarsByIdsAsync(ids.subList(0, Math.min(count, ids.size())))
+                .join();
+        context.setContext(CONCURRENT_RESPONSES, results);
+        logger.info("Fetched {} cars by id", results.size());
+    }
+
+    @When("I send {int} concurrent GET requests to {string}")
+    public void iSendConcurrentGetRequestsTo(int count, String endpoint) {
+        List<CompletableFuture<HttpResult>> requests = IntStream.range(0, count)
+                .mapToObj(i -> carsApiClient.getAsync(endpoint))
+                .collect(Collectors.toList());
+        List<HttpResult> results = CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> requests.stream().map(CompletableFuture::join).collect(Collectors.toList()))
+                .join();
+        context.setContext(CONCURRENT_RESPONSES, results);
+        logger.info("{} concurrent GET requests sent to: {}, protocols: {}", count, endpoint,
+                results.stream().map(HttpResult::getProtocol).distinct().collect(Collectors.toList()));
+    }
+
+    @Then("all concurrent responses should have status code {int}")
+    @SuppressWarnings("unchecked")
+    public void allConcurrentResponsesShouldHaveStatusCode(int expectedStatusCode) {
+        List<HttpResult> results = (List<HttpResult>) context.getContext(CONCURRENT_RESPONSES);
+        assertThat(results).as("Concurrent responses").isNotEmpty();
+        for (HttpResult result : results) {
+            assertThat(result.getStatusCode())
+                    .as("Status code of %s", result.getUrl())
+                    .isEqualTo(expectedStatusCode);
+        }
+        logger.info("Verified status code {} on {} concurrent responses", expectedStatusCode, results.size());
+    }
+
     @Then("the response status code should be {int}")
     public void theResponseStatusCodeShouldBe(int expectedStatusCode) {
         Response response = context.getApiResponse();
@@ -62,25 +109,60 @@ public class ApiSteps {
 
     @Then("the response should contain a list of cars")
     public void theResponseShouldContainAListOfCars() {
-        Response response = context.getApiResponse();
-        List<?> cars = response.jsonPath().getList("cars");
-        assertThat(cars)
-                .as("Cars list")
-                .isNotNull()
-                .isNotEmpty();
-        logger.info("Response contains {} cars", cars.size());
+        long count = carsValidator().requireCountBetween(1, Long.MAX_VALUE).validate(responseBody());
+        logger.info("Response contains {} cars", count);
+    }
+
+    @Then("the response should contain at least {int} car(s)")
+    public void theResponseShouldContainAtLeastCars(int minimum) {
+        long count = carsValidator().requireCountBetween(minimum, Long.MAX_VALUE).validate(responseBody());
+        logger.info("Response contains {} cars, expected at least {}", count, minimum);
     }
 
     @Then("each car should have required fields")
     public void eachCarShouldHaveRequiredFields() {
-        Response response = context.getApiResponse();
-        List<Map<String, Object>> cars = response.jsonPath().getList("cars");
+        long count = carsValidator().requireFields(REQUIRED_CAR_FIELDS).validate(responseBody());
+        logger.info("All {} cars have required fields", count);
+    }
 
-        for (Map<String, Object> car : cars) {
-            assertThat(car).containsKeys("id", "name", "price", "image");
-            logger.debug("Car validated: {}", car.get("id"));
-        }
-        logger.info("All cars have required fields");
+    @Then("each car should have a unique {string}")
+    public void eachCarShouldHaveAUnique(String field) {
+        long count = carsValidator().requireUnique(field).validate(responseBody());
+        logger.info("All {} cars have a unique {}", count, field);
+    }
+
+    @Then("each car should have {string} between {double} and {double}")
+    public void eachCarShouldHaveBetween(String field, double min, double max) {
+        long count = carsValidator().requireFields(field).requireRange(field, min, max).validate(responseBody());
+        logger.info("All {} cars have {} between {} and {}", count, field, min, max);
+    }
+
+    @Then("the response should match snapshot {string}")
+    public void theResponseShouldMatchSnapshot(String snapshotName) {
+        verifySnapshot(snapshotName, Collections.emptyList());
+    }
+
+    @Then("the response should match snapshot {string} ignoring:")
+    public void theResponseShouldMatchSnapshotIgnoring(String snapshotName, DataTable ignoredFields) {
+        verifySnapshot(snapshotName, ignoredFields.asList());
+    }
+
+    private void verifySnapshot(String snapshotName, List<String> ignoredFields) {
+        SnapshotResult result = SnapshotManager.getInstance()
+                .check(snapshotName, context.getApiResponse().asByteArray(), ignoredFields);
+        assertThat(result.matches())
+                .as("API snapshot '%s': %s%n%s", snapshotName, result.getReason(),
+                        String.join(System.lineSeparator(), result.getDifferences()))
+                .isTrue();
+        logger.info("API snapshot '{}' matched in {} ms", snapshotName, result.getElapsedMillis());
+    }
+
+    private StreamingCollectionValidator carsValidator() {
+        return new StreamingCollectionValidator("cars");
+    }
+
+    private InputStream responseBody() {
+        return context.getApiResponse().asInputStream();
     }
 
     @And("the response should contain a a message saying that the API is up")
@@ -0,0 +1,65 @@
+package com.qa.steps;
+
+import com.qa.common.ConfigManager;
+import com.qa.common.proxy.FaultInjectionProxy;
+import com.qa.common.proxy.FaultProfile;
+import com.qa.common.proxy.FaultRule;
+import io.cucumber.datatable.DataTable;
+import io.cucumber.java.en.Given;
+import org.opentest4j.TestAbortedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Step definitions switching the network conditions of the fault injection proxy
+ * Scenarios using them are skipped unless the run enables proxy.enabled
+ */
+public class NetworkSteps {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkSteps.class);
+
+    @Given("the network profile is {string}")
+    public void theNetworkProfileIs(String profileName) {
+        proxy().setProfile(FaultProfile.named(profileName));
+    }
+
+    /**
+     * Columns: route (regex), latency and jitter (ms), bandwidth (KB/s), reset (rate 0-1),
+     * status and errorRate; all but route are optional
+     */
+    @Given("the network has the following faults:")
+    public void theNetworkHasTheFollowingFaults(DataTable dataTable) {
+        List<FaultRule> rules = new ArrayList<>();
+        for (Map<String, String> row : dataTable.asMaps()) {
+            FaultRule rule = FaultRule.forRoute(row.getOrDefault("route", ".*"))
+                    .latency(number(row, "latency"))
+                    .jitter(number(row, "jitter"))
+                    .bandwidthKbps(number(row, "bandwidth"));
+            if (row.get("reset") != null) {
+                rule.resetRate(Double.parseDouble(row.get("reset")));
+            }
+            if (row.get("status") != null) {
+                rule.errorStatus(Integer.parseInt(row.get("status")),
+                        row.get("errorRate") != null ? Double.parseDouble(row.get("errorRate")) : 1.0);
+            }
+            rules.add(rule);
+        }
+        proxy().setProfile(new FaultProfile("scenario", rules));
+    }
+
+    private FaultInjectionProxy proxy() {
+        if (!ConfigManager.getInstance().isProxyEnabled()) {
+            logger.info("Fault injection proxy is disabled, skipping scenario");
+            throw new TestAbortedException("Network fault steps need -Dproxy.enabled=true");
+        }
+        return FaultInjectionProxy.getInstance();
+    }
+
+    private static long number(Map<String, String> row, String column) {
+        String value = row.get(column);
+        return value == null || value.trim().isEmpty() ? 0 : Long.parseLong(value.trim());
+    }
+}
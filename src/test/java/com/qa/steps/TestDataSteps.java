@@ -0,0 +1,76 @@
+package com.qa.steps;
+
+import com.qa.api.models.Car;
+import com.qa.common.TestContext;
+import com.qa.data.CarDataset;
+import com.qa.data.TestDataRepository;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Step definitions querying the shared test-data repository
+ */
+public class TestDataSteps {
+    private static final Logger logger = LoggerFactory.getLogger(TestDataSteps.class);
+    private static final String DATASET = "testDataset";
+    private static final String FOUND_CARS = "foundCars";
+    private final TestContext context;
+
+    public TestDataSteps(TestContext context) {
+        this.context = context;
+    }
+
+    @Given("the test dataset {string} is loaded")
+    public void theTestDatasetIsLoaded(String name) {
+        CarDataset dataset = TestDataRepository.getInstance().getCars(name);
+        assertThat(dataset.size()).as("Cars in test dataset '%s'", name).isPositive();
+        context.setContext(DATASET, dataset);
+        logger.info("Using test dataset '{}' with {} cars", name, dataset.size());
+    }
+
+    @When("I look up the cars made by {string}")
+    public void iLookUpTheCarsMadeBy(String make) {
+        context.setContext(FOUND_CARS, dataset().findByMake(make));
+    }
+
+    @When("I look up the cars priced between {double} and {double}")
+    public void iLookUpTheCarsPricedBetween(double min, double max) {
+        context.setContext(FOUND_CARS, dataset().findByPriceRange(min, max));
+    }
+
+    @Then("{int} car(s) should be found")
+    public void carsShouldBeFound(int expected) {
+        assertThat(foundCars()).as("Cars found in the test dataset").hasSize(expected);
+    }
+
+    @Then("every car found should be made by {string}")
+    public void everyCarFoundShouldBeMadeBy(String make) {
+        assertThat(foundCars()).allSatisfy(car -> assertThat(car.getMake()).isEqualToIgnoringCase(make));
+    }
+
+    @Then("every car found should be priced between {double} and {double}")
+    public void everyCarFoundShouldBePricedBetween(double min, double max) {
+        assertThat(foundCars()).allSatisfy(car -> assertThat(car.getPrice()).isBetween(min, max));
+    }
+
+    @Then("every car found should have a unique id")
+    public void everyCarFoundShouldHaveAUniqueId() {
+        assertThat(foundCars()).extracting(Car::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    private CarDataset dataset() {
+        return (CarDataset) context.getContext(DATASET);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Car> foundCars() {
+        return (List<Car>) context.getContext(FOUND_CARS);
+    }
+}
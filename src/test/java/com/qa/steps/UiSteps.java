@@ -1,9 +1,14 @@
 package com.qa.steps;
 
+import com.qa.api.CarsApiClient;
 import com.qa.common.ConfigManager;
 import com.qa.common.DriverManager;
+import com.qa.common.ScreenshotUtil;
 import com.qa.common.TestContext;
+import com.qa.data.CatalogueComparison;
 import com.qa.ui.pages.CarsShowroomPage;
+import com.qa.ui.visual.VisualBaselineManager;
+import com.qa.ui.visual.VisualDiffResult;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -12,7 +17,11 @@ import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.awt.Rectangle;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -83,4 +92,42 @@ public class UiSteps {
         logger.info("All required fields are displayed");
     }
 
+    @Then("every car on the page should match the cars API")
+    public void everyCarOnThePageShouldMatchTheCarsApi() {
+        ConfigManager config = ConfigManager.getInstance();
+        // The catalogue downloads while the browser renders and the cards are read
+        CompletableFuture<List<Map<String, String>>> apiCars = new CarsApiClient().getCarCatalogueAsync();
+        carsShowroomPage.waitForCarsDisplayed();
+        List<Map<String, String>> cards = carsShowroomPage.getCarCards();
+
+        CatalogueComparison.Result result = new CatalogueComparison(config.getCatalogueKeyField(),
+                config.getCatalogueComparedFields()).compare(apiCars.join(), cards);
+        String report = result.describe(config.getCatalogueDiffMaxLines());
+        logger.info("Catalogue joined in {} ms: {}", result.getElapsedMillis(), report);
+        assertThat(result.isConsistent())
+                .as("Showroom page versus cars API: %s", report)
+                .isTrue();
+    }
+
+    @Then("the page should match the visual baseline {string}")
+    public void thePageShouldMatchTheVisualBaseline(String baselineName) {
+        verifyVisualBaseline(baselineName, Collections.emptyList());
+    }
+
+    @Then("the page should match the visual baseline {string} ignoring:")
+    public void thePageShouldMatchTheVisualBaselineIgnoring(String baselineName, DataTable ignoredSelectors) {
+        List<Rectangle> ignoreRegions = carsShowroomPage.getScreenshotRegions(ignoredSelectors.asList());
+        verifyVisualBaseline(baselineName, ignoreRegions);
+    }
+
+    private void verifyVisualBaseline(String baselineName, List<Rectangle> ignoreRegions) {
+        byte[] screenshot = ScreenshotUtil.captureScreenshotAsBytes(driver);
+        VisualDiffResult result = VisualBaselineManager.getInstance()
+                .check(baselineName, screenshot, ignoreRegions);
+        assertThat(result.matches())
+                .as("Visual baseline '%s': %s", baselineName, result.getReason())
+                .isTrue();
+        logger.info("Visual baseline '{}' matched in {} ms", baselineName, result.getElapsedMillis());
+    }
+
 }
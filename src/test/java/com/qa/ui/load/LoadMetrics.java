@@ -0,0 +1,128 @@
+package com.qa.ui.load;
+
+import com.qa.common.Percentiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Journey and page timings of all simulated users, aggregated into percentiles
+ * and per-interval throughput
+ */
+public class LoadMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(LoadMetrics.class);
+    public static final String JOURNEY = "journey";
+
+    private final long intervalMillis;
+    private final Map<String, List<Double>> samples = new LinkedHashMap<>();
+    private final Map<Long, Interval> intervals = new TreeMap<>();
+    private final Map<String, Integer> errors = new TreeMap<>();
+    private int journeys;
+    private int errorCount;
+
+    public LoadMetrics(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+        samples.put(JOURNEY, new ArrayList<>());
+    }
+
+    /**
+     * Records a completed journey: its wall time until the cars were rendered, and the page timings
+     */
+    public synchronized void recordJourney(long offsetMillis, long journeyMillis, Map<String, Double> pageTimings) {
+        journeys++;
+        samples.get(JOURNEY).add((double) journeyMillis);
+        pageTimings.forEach((metric, value) -> samples.computeIfAbsent(metric, key -> new ArrayList<>()).add(value));
+        Interval interval = interval(offsetMillis);
+        interval.journeys++;
+        interval.journeyMillis.add((double) journeyMillis);
+    }
+
+    public synchronized void recordError(long offsetMillis, Throwable error) {
+        errorCount++;
+        interval(offsetMillis).errors++;
+        String message = error.getClass().getSimpleName() + ": "
+                + String.valueOf(error.getMessage()).split("\\R", 2)[0];
+        errors.merge(message, 1, Integer::sum);
+    }
+
+    public synchronized void recordUsers(long offsetMillis, int users) {
+        Interval interval = interval(offsetMillis);
+        interval.peakUsers = Math.max(interval.peakUsers, users);
+    }
+
+    public synchronized int getJourneys() {
+        return journeys;
+    }
+
+    public synchronized double getErrorRate() {
+        int attempts = journeys + errorCount;
+        return attempts == 0 ? 0 : (double) errorCount / attempts;
+    }
+
+    public synchronized double percentile(String metric, double percentile) {
+        return Percentiles.of(samples.getOrDefault(metric, Collections.emptyList()), percentile);
+    }
+
+    public synchronized void writeReport(Path path, LoadSchedule schedule, long elapsedMillis) {
+        List<String> lines = new ArrayList<>();
+        double seconds = elapsedMillis / 1000.0;
+        lines.add(String.format("Showroom load: stages %s, peak %d users, %.1f s, %d journeys (%.2f/s), "
+                        + "%d errors (%.1f%%)", schedule, schedule.getPeakUsers(), seconds, journeys,
+                journeys / Math.max(seconds, 0.001), errorCount, getErrorRate() * 100));
+        lines.add("");
+        lines.add(String.format("%-24s %6s %8s %8s %8s %8s %8s", "Metric (ms)", "n", "p50", "p90", "p95", "p99",
+                "max"));
+        samples.forEach((metric, values) -> lines.add(String.format("%-24s %6d %8s %8s %8s %8s %8s",
+                metric, values.size(), cell(Percentiles.of(values, 50)), cell(Percentiles.of(values, 90)),
+                cell(Percentiles.of(values, 95)), cell(Percentiles.of(values, 99)), cell(Percentiles.of(values, 100)))));
+        lines.add("");
+        lines.add(String.format("%-14s %6s %9s %7s %10s %12s", "Interval", "Users", "Journeys", "Errors",
+                "Journeys/s", "Journey p95"));
+        intervals.forEach((index, interval) -> lines.add(String.format("%-14s %6d %9d %7d %10.2f %12s",
+                String.format("%d-%ds", index * intervalMillis / 1000, (index + 1) * intervalMillis / 1000),
+                interval.peakUsers, interval.journeys, interval.errors,
+                interval.journeys * 1000.0 / intervalMillis, cell(Percentiles.of(interval.journeyMillis, 95)))));
+        if (!errors.isEmpty()) {
+            lines.add("");
+            lines.add("Errors:");
+            errors.forEach((message, count) -> lines.add(String.format("  %4dx %s", count, message)));
+        }
+
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+                lines.forEach(out::println);
+            }
+            lines.forEach(logger::info);
+            logger.info("Showroom load report written to {}", path);
+        } catch (IOException e) {
+            logger.warn("Failed to write showroom load report: {}", e.getMessage());
+        }
+    }
+
+    private static String cell(double value) {
+        return Double.isNaN(value) ? "-" : String.format("%.0f", value);
+    }
+
+    private Interval interval(long offsetMillis) {
+        return intervals.computeIfAbsent(offsetMillis / intervalMillis, key -> new Interval());
+    }
+
+    private static final class Interval {
+        private int peakUsers;
+        private int journeys;
+        private int errors;
+        private final List<Double> journeyMillis = new ArrayList<>();
+    }
+}
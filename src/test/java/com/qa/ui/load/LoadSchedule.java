@@ -0,0 +1,88 @@
+package com.qa.ui.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ramp schedule of concurrent users, written as stages "duration:users", e.g. "30s:10,2m:10,30s:0"
+ * Each stage moves the number of users linearly from the previous stage's target
+ * (0 at the start) to its own target over its duration
+ */
+public class LoadSchedule {
+    private final List<long[]> stages;
+    private final long totalMillis;
+
+    private LoadSchedule(List<long[]> stages) {
+        this.stages = Collections.unmodifiableList(stages);
+        this.totalMillis = stages.stream().mapToLong(stage -> stage[0]).sum();
+    }
+
+    public static LoadSchedule parse(String definition) {
+        List<long[]> stages = new ArrayList<>();
+        for (String stage : definition.split(",")) {
+            String[] parts = stage.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Load stage must be duration:users, got '" + stage + "'");
+            }
+            stages.add(new long[]{parseMillis(parts[0].trim()), Long.parseLong(parts[1].trim())});
+        }
+        if (stages.isEmpty()) {
+            throw new IllegalArgumentException("Load schedule has no stages");
+        }
+        return new LoadSchedule(stages);
+    }
+
+    /**
+     * Number of users that should be active at the given time since the start
+     */
+    public int usersAt(long elapsedMillis) {
+        long stageStart = 0;
+        long previousUsers = 0;
+        for (long[] stage : stages) {
+            long duration = stage[0];
+            long users = stage[1];
+            if (elapsedMillis < stageStart + duration) {
+                double progress = (elapsedMillis - stageStart) / (double) duration;
+                return (int) Math.round(previousUsers + (users - previousUsers) * progress);
+            }
+            stageStart += duration;
+            previousUsers = users;
+        }
+        return 0;
+    }
+
+    public int getPeakUsers() {
+        return (int) stages.stream().mapToLong(stage -> stage[1]).max().orElse(0);
+    }
+
+    public long getTotalMillis() {
+        return totalMillis;
+    }
+
+    private static long parseMillis(String duration) {
+        String value = duration.toLowerCase(Locale.ROOT);
+        if (value.endsWith("ms")) {
+            return Long.parseLong(value.substring(0, value.length() - 2));
+        }
+        long number = Long.parseLong(value.substring(0, value.length() - 1));
+        switch (value.charAt(value.length() - 1)) {
+            case 's':
+                return number * 1000;
+            case 'm':
+                return number * 60_000;
+            case 'h':
+                return number * 3_600_000;
+            default:
+                throw new IllegalArgumentException("Load stage duration needs a unit (ms, s, m, h): " + duration);
+        }
+    }
+
+    @Override
+    public String toString() {
+        List<String> parts = new ArrayList<>();
+        stages.forEach(stage -> parts.add(stage[0] / 1000 + "s:" + stage[1]));
+        return String.join(",", parts);
+    }
+}
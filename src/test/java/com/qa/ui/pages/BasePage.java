@@ -1,13 +1,23 @@
 package com.qa.ui.pages;
 
+import com.qa.common.ConfigManager;
+import com.qa.common.ScenarioDeadline;
+import com.qa.common.StepContext;
+import com.qa.common.jfr.PageWaitEvent;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.awt.Rectangle;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Base Page Object containing common methods for all pages
@@ -15,12 +25,13 @@ import java.time.Duration;
  */
 public abstract class BasePage {
     protected static final Logger logger = LoggerFactory.getLogger(BasePage.class);
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(20);
     protected WebDriver driver;
     protected WebDriverWait wait;
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        this.wait = new WebDriverWait(driver, WAIT_TIMEOUT);
         PageFactory.initElements(driver, this);
     }
 
@@ -52,23 +63,118 @@ public abstract class BasePage {
         }
     }
 
+    /**
+     * Opens a URL, limiting the page load to what is left of the scenario budget
+     * The configured timeout is restored afterwards, since the browser may be reused by later scenarios
+     */
+    protected void open(String url) {
+        if (!ScenarioDeadline.isActive()) {
+            driver.get(url);
+            return;
+        }
+        Duration pageLoad = Duration.ofSeconds(ConfigManager.getInstance().getBrowserTimeout());
+        driver.manage().timeouts().pageLoadTimeout(ScenarioDeadline.cap(pageLoad, "loading " + url));
+        try {
+            driver.get(url);
+        } finally {
+            driver.manage().timeouts().pageLoadTimeout(pageLoad);
+        }
+    }
+
     protected void waitForElementToBeVisible(WebElement element) {
-        wait.until(ExpectedConditions.visibilityOf(element));
+        waitUntil("visibility", ExpectedConditions.visibilityOf(element));
     }
 
     protected void waitForElementToBeClickable(WebElement element) {
-        wait.until(ExpectedConditions.elementToBeClickable(element));
+        waitUntil("clickable", ExpectedConditions.elementToBeClickable(element));
     }
 
     protected void waitForPageLoad() {
-        wait.until(webDriver -> ((JavascriptExecutor) webDriver)
+        waitUntil("page load", webDriver -> ((JavascriptExecutor) webDriver)
                 .executeScript("return document.readyState").equals("complete"));
     }
 
+    /**
+     * Waits for a condition and records the wait as a Flight Recorder event
+     */
+    protected <T> T waitUntil(String conditionName, ExpectedCondition<T> condition) {
+        PageWaitEvent event = new PageWaitEvent();
+        event.begin();
+        boolean timedOut = false;
+        try {
+            wait.withTimeout(ScenarioDeadline.cap(WAIT_TIMEOUT, "waiting for " + conditionName));
+            return wait.until(condition);
+        } catch (TimeoutException e) {
+            timedOut = true;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.scenario = StepContext.getScenario();
+                event.step = StepContext.getStep();
+                event.page = getClass().getSimpleName();
+                event.condition = conditionName;
+                event.timedOut = timedOut;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Returns Navigation and Paint Timing metrics of the current document in milliseconds
+     * since navigation start, read in a single script call: ttfb, domContentLoaded, load,
+     * firstPaint and firstContentfulPaint. Metrics the browser has not reported are left out.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Double> getPageTimings() {
+        Map<String, Object> raw = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(
+                "var nav = performance.getEntriesByType('navigation')[0] || {}; var paint = {};"
+                        + "performance.getEntriesByType('paint').forEach(function (entry) {"
+                        + "  paint[entry.name] = entry.startTime;"
+                        + "});"
+                        + "return {ttfb: nav.responseStart, domContentLoaded: nav.domContentLoadedEventEnd,"
+                        + "  load: nav.loadEventEnd, firstPaint: paint['first-paint'],"
+                        + "  firstContentfulPaint: paint['first-contentful-paint']};");
+
+        Map<String, Double> timings = new LinkedHashMap<>();
+        raw.forEach((metric, value) -> {
+            if (value instanceof Number && ((Number) value).doubleValue() > 0) {
+                timings.put(metric, ((Number) value).doubleValue());
+            }
+        });
+        return timings;
+    }
+
     protected void scrollToElement(WebElement element) {
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
     }
 
+    /**
+     * Returns the viewport screenshot areas, in device pixels, covered by elements
+     * matching the given CSS selectors, resolved in a single script call
+     */
+    @SuppressWarnings("unchecked")
+    public List<Rectangle> getScreenshotRegions(List<String> cssSelectors) {
+        List<Map<String, Number>> boxes = (List<Map<String, Number>>) ((JavascriptExecutor) driver).executeScript(
+                "var ratio = window.devicePixelRatio || 1; var boxes = [];"
+                        + "arguments[0].forEach(function (selector) {"
+                        + "  document.querySelectorAll(selector).forEach(function (element) {"
+                        + "    var r = element.getBoundingClientRect();"
+                        + "    boxes.push({x: r.left * ratio, y: r.top * ratio, w: r.width * ratio, h: r.height * ratio});"
+                        + "  });"
+                        + "});"
+                        + "return boxes;", cssSelectors);
+
+        List<Rectangle> regions = new ArrayList<>();
+        for (Map<String, Number> box : boxes) {
+            regions.add(new Rectangle((int) Math.floor(box.get("x").doubleValue()),
+                    (int) Math.floor(box.get("y").doubleValue()),
+                    (int) Math.ceil(box.get("w").doubleValue()) + 1,
+                    (int) Math.ceil(box.get("h").doubleValue()) + 1));
+        }
+        return regions;
+    }
+
     public String getCurrentUrl() {
         return driver.getCurrentUrl();
     }
@@ -1,11 +1,13 @@
 package com.qa.ui.pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class CarsShowroomPage extends BasePage {
@@ -35,7 +37,7 @@ public class CarsShowroomPage extends BasePage {
     public void navigateTo(String baseUrl) {
         String url = baseUrl;
         logger.info("Navigating to Cars Showroom: {}", url);
-        driver.get(url);
+        open(url);
         waitForPageLoad();
     }
 
@@ -70,6 +72,40 @@ public class CarsShowroomPage extends BasePage {
         }
     }
 
+    /**
+     * Waits until the car cards have been rendered and returns their number
+     */
+    public int waitForCarsDisplayed() {
+        return waitUntil("car cards", webDriver -> {
+            int count = getCarCount();
+            return count > 0 ? count : null;
+        });
+    }
+
+    /**
+     * Reads every car card in a single script call, e.g. {name=Toyota Camry, price=$25,000}
+     * A card is the outermost element around a car name that holds no other car name; its
+     * fields are the texts of its [data-testid^='car-'] elements without the prefix
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, String>> getCarCards() {
+        return (List<Map<String, String>>) ((JavascriptExecutor) driver).executeScript(
+                "var cards = [];"
+                        + "document.querySelectorAll(\"[data-testid='car-name']\").forEach(function (name) {"
+                        + "  var card = name;"
+                        + "  while (card.parentElement"
+                        + "      && card.parentElement.querySelectorAll(\"[data-testid='car-name']\").length === 1) {"
+                        + "    card = card.parentElement;"
+                        + "  }"
+                        + "  var fields = {};"
+                        + "  card.querySelectorAll(\"[data-testid^='car-']\").forEach(function (field) {"
+                        + "    fields[field.getAttribute('data-testid').substring(4)] = field.textContent.trim();"
+                        + "  });"
+                        + "  cards.push(fields);"
+                        + "});"
+                        + "return cards;");
+    }
+
     public List<String> getCarMakes() {
         return carMakes.stream()
                 .map(this::getText)
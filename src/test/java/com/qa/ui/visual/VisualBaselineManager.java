@@ -0,0 +1,111 @@
+package com.qa.ui.visual;
+
+import com.qa.common.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stores visual baselines and checks screenshots against them
+ * A missing baseline fails the check unless visual.update.baselines is set; the screenshot is
+ * then written to the output directory for review. On a mismatch the actual screenshot and a
+ * diff image with the changed tiles are written there as well
+ */
+public class VisualBaselineManager {
+    private static final Logger logger = LoggerFactory.getLogger(VisualBaselineManager.class);
+    private static VisualBaselineManager instance;
+    private final Path baselineDir;
+    private final Path outputDir;
+    private final boolean updateBaselines;
+    private final VisualComparator comparator;
+
+    private VisualBaselineManager() {
+        ConfigManager config = ConfigManager.getInstance();
+        this.baselineDir = Paths.get(config.getVisualBaselinePath());
+        this.outputDir = Paths.get(config.getVisualOutputPath());
+        this.updateBaselines = config.shouldUpdateVisualBaselines();
+        this.comparator = new VisualComparator(config.getVisualTolerance(), config.getVisualPixelThreshold(),
+                config.getVisualHashMaxDistance(), config.getVisualTileSize());
+    }
+
+    public static synchronized VisualBaselineManager getInstance() {
+        if (instance == null) {
+            instance = new VisualBaselineManager();
+        }
+        return instance;
+    }
+
+    public VisualDiffResult check(String name, byte[] screenshotPng, List<Rectangle> ignoreRegions) {
+        String fileName = name.replaceAll("[^a-zA-Z0-9_-]", "_") + ".png";
+        Path baselineFile = baselineDir.resolve(fileName);
+
+        try {
+            if (updateBaselines) {
+                Files.createDirectories(baselineDir);
+                Files.write(baselineFile, screenshotPng);
+                logger.warn("Visual baseline recorded: {}", baselineFile);
+                return new VisualDiffResult(true, "Baseline recorded", 0, 0.0, new ArrayList<>(), 0);
+            }
+            if (!Files.exists(baselineFile)) {
+                Path actualFile = outputDir.resolve(fileName.replace(".png", "_actual.png"));
+                Files.createDirectories(outputDir);
+                Files.write(actualFile, screenshotPng);
+                logger.error("Visual baseline missing: {}", baselineFile);
+                return new VisualDiffResult(false, "No baseline at " + baselineFile + ", screenshot saved to "
+                        + actualFile + "; review it and re-run with -Dvisual.update.baselines=true to record it",
+                        0, 0.0, new ArrayList<>(), 0);
+            }
+
+            byte[] baselinePng = Files.readAllBytes(baselineFile);
+            if (Arrays.equals(baselinePng, screenshotPng)) {
+                return new VisualDiffResult(true, "Identical", 0, 0.0, new ArrayList<>(), 0);
+            }
+
+            BufferedImage baseline = ImageIO.read(new ByteArrayInputStream(baselinePng));
+            BufferedImage actual = ImageIO.read(new ByteArrayInputStream(screenshotPng));
+            VisualDiffResult result = comparator.compare(baseline, actual, ignoreRegions);
+            logger.info("Visual check '{}': {}", name, result);
+
+            if (!result.matches()) {
+                Files.createDirectories(outputDir);
+                Files.write(outputDir.resolve(fileName.replace(".png", "_actual.png")), screenshotPng);
+                ImageIO.write(diffImage(actual, result, ignoreRegions), "png",
+                        outputDir.resolve(fileName.replace(".png", "_diff.png")).toFile());
+            }
+            return result;
+        } catch (IOException e) {
+            throw new RuntimeException("Visual check failed for " + name, e);
+        }
+    }
+
+    private BufferedImage diffImage(BufferedImage actual, VisualDiffResult result, List<Rectangle> ignoreRegions) {
+        BufferedImage diff = new BufferedImage(actual.getWidth(), actual.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = diff.createGraphics();
+        graphics.drawImage(actual, 0, 0, null);
+        graphics.setStroke(new BasicStroke(3));
+        graphics.setColor(Color.BLUE);
+        for (Rectangle region : ignoreRegions) {
+            graphics.draw(region);
+        }
+        graphics.setColor(Color.RED);
+        for (Rectangle tile : result.getChangedTiles()) {
+            graphics.draw(tile);
+        }
+        graphics.dispose();
+        return diff;
+    }
+}
@@ -0,0 +1,209 @@
+package com.qa.ui.visual;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Fast image comparison for visual regression checks
+ * Identical images are accepted immediately and clearly different ones are rejected
+ * by a 64-bit perceptual difference hash; everything in between goes through a
+ * tiled pixel diff that runs in parallel across cores
+ */
+public class VisualComparator {
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+
+    private final double tolerance;
+    private final int pixelThreshold;
+    private final int maxHashDistance;
+    private final int tileSize;
+
+    /**
+     * @param tolerance       maximum fraction of differing pixels still considered a match
+     * @param pixelThreshold  maximum per-channel delta (0-255) for two pixels to count as equal
+     * @param maxHashDistance hash distance (0-64) above which images are rejected without a pixel diff
+     * @param tileSize        edge length of the tiles compared in parallel
+     */
+    public VisualComparator(double tolerance, int pixelThreshold, int maxHashDistance, int tileSize) {
+        this.tolerance = tolerance;
+        this.pixelThreshold = pixelThreshold;
+        this.maxHashDistance = maxHashDistance;
+        this.tileSize = tileSize;
+    }
+
+    public VisualDiffResult compare(BufferedImage baseline, BufferedImage actual, List<Rectangle> ignoreRegions) {
+        long start = System.nanoTime();
+
+        if (baseline.getWidth() != actual.getWidth() || baseline.getHeight() != actual.getHeight()) {
+            return result(false, String.format("Size changed from %dx%d to %dx%d", baseline.getWidth(),
+                    baseline.getHeight(), actual.getWidth(), actual.getHeight()), 64, 1.0, new ArrayList<>(), start);
+        }
+
+        int width = baseline.getWidth();
+        int height = baseline.getHeight();
+        int[] expected = pixels(baseline);
+        int[] current = pixels(actual);
+
+        if (Arrays.equals(expected, current)) {
+            return result(true, "Identical", 0, 0.0, new ArrayList<>(), start);
+        }
+
+        int hashDistance = Long.bitCount(differenceHash(expected, width, height, ignoreRegions)
+                ^ differenceHash(current, width, height, ignoreRegions));
+        if (hashDistance > maxHashDistance) {
+            return result(false, "Perceptual hash distance " + hashDistance + " exceeds " + maxHashDistance,
+                    hashDistance, 1.0, new ArrayList<>(), start);
+        }
+
+        int tilesX = (width + tileSize - 1) / tileSize;
+        int tilesY = (height + tileSize - 1) / tileSize;
+        long[][] tileCounts = IntStream.range(0, tilesX * tilesY)
+                .parallel()
+                .mapToObj(tile -> compareTile(expected, current, width, height,
+                        (tile % tilesX) * tileSize, (tile / tilesX) * tileSize, ignoreRegions))
+                .toArray(long[][]::new);
+
+        long differing = 0;
+        long compared = 0;
+        List<Rectangle> changedTiles = new ArrayList<>();
+        for (int tile = 0; tile < tileCounts.length; tile++) {
+            differing += tileCounts[tile][0];
+            compared += tileCounts[tile][1];
+            if (tileCounts[tile][0] > 0) {
+                int x = (tile % tilesX) * tileSize;
+                int y = (tile / tilesX) * tileSize;
+                changedTiles.add(new Rectangle(x, y, Math.min(tileSize, width - x), Math.min(tileSize, height - y)));
+            }
+        }
+
+        double ratio = compared == 0 ? 0.0 : (double) differing / compared;
+        boolean matches = ratio <= tolerance;
+        String reason = String.format("%d of %d pixels differ (%.4f%%, tolerance %.4f%%)",
+                differing, compared, ratio * 100, tolerance * 100);
+        return result(matches, reason, hashDistance, ratio, changedTiles, start);
+    }
+
+    private long[] compareTile(int[] expected, int[] current, int width, int height,
+                               int tileX, int tileY, List<Rectangle> ignoreRegions) {
+        Rectangle tile = new Rectangle(tileX, tileY, Math.min(tileSize, width - tileX), Math.min(tileSize, height - tileY));
+        List<Rectangle> regions = ignoreRegions.stream()
+                .filter(tile::intersects)
+                .collect(Collectors.toList());
+        for (Rectangle region : regions) {
+            if (region.contains(tile)) {
+                return new long[]{0, 0};
+            }
+        }
+
+        long differing = 0;
+        long compared = 0;
+        for (int y = tile.y; y < tile.y + tile.height; y++) {
+            int row = y * width;
+            for (int x = tile.x; x < tile.x + tile.width; x++) {
+                if (!regions.isEmpty() && isIgnored(regions, x, y)) {
+                    continue;
+                }
+                compared++;
+                int a = expected[row + x];
+                int b = current[row + x];
+                if (a != b && channelDelta(a, b) > pixelThreshold) {
+                    differing++;
+                }
+            }
+        }
+        return new long[]{differing, compared};
+    }
+
+    /**
+     * dHash: compares neighbouring cells of a 9x8 grayscale grid sampled from the image
+     */
+    private long differenceHash(int[] pixels, int width, int height, List<Rectangle> ignoreRegions) {
+        double[] cells = new double[HASH_WIDTH * HASH_HEIGHT];
+        int cellWidth = Math.max(1, width / HASH_WIDTH);
+        int cellHeight = Math.max(1, height / HASH_HEIGHT);
+        int step = Math.max(1, Math.min(cellWidth, cellHeight) / 8);
+
+        for (int cy = 0; cy < HASH_HEIGHT; cy++) {
+            for (int cx = 0; cx < HASH_WIDTH; cx++) {
+                long sum = 0;
+                int samples = 0;
+                int maxY = Math.min(height, (cy + 1) * cellHeight);
+                int maxX = Math.min(width, (cx + 1) * cellWidth);
+                for (int y = cy * cellHeight; y < maxY; y += step) {
+                    for (int x = cx * cellWidth; x < maxX; x += step) {
+                        samples++;
+                        if (!isIgnored(ignoreRegions, x, y)) {
+                            sum += luminance(pixels[y * width + x]);
+                        }
+                    }
+                }
+                cells[cy * HASH_WIDTH + cx] = samples == 0 ? 0 : (double) sum / samples;
+            }
+        }
+
+        long hash = 0;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                hash <<= 1;
+                if (cells[y * HASH_WIDTH + x] > cells[y * HASH_WIDTH + x + 1]) {
+                    hash |= 1;
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static boolean isIgnored(List<Rectangle> regions, int x, int y) {
+        for (Rectangle region : regions) {
+            if (region.contains(x, y)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int channelDelta(int a, int b) {
+        int red = Math.abs(((a >> 16) & 0xFF) - ((b >> 16) & 0xFF));
+        int green = Math.abs(((a >> 8) & 0xFF) - ((b >> 8) & 0xFF));
+        int blue = Math.abs((a & 0xFF) - (b & 0xFF));
+        return Math.max(red, Math.max(green, blue));
+    }
+
+    private static int luminance(int rgb) {
+        return (((rgb >> 16) & 0xFF) * 299 + ((rgb >> 8) & 0xFF) * 587 + (rgb & 0xFF) * 114) / 1000;
+    }
+
+    /**
+     * Returns the image as packed RGB ints, converting it only when needed
+     */
+    static int[] pixels(BufferedImage image) {
+        Objects.requireNonNull(image, "image");
+        if (image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_INT_ARGB) {
+            int[] data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+                return data;
+            }
+            int[] rgb = new int[data.length];
+            for (int i = 0; i < data.length; i++) {
+                rgb[i] = data[i] & 0xFFFFFF;
+            }
+            return rgb;
+        }
+        BufferedImage converted = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        converted.getGraphics().drawImage(image, 0, 0, null);
+        return ((DataBufferInt) converted.getRaster().getDataBuffer()).getData();
+    }
+
+    private static VisualDiffResult result(boolean matches, String reason, int hashDistance, double ratio,
+                                           List<Rectangle> changedTiles, long startNanos) {
+        return new VisualDiffResult(matches, reason, hashDistance, ratio, changedTiles,
+                (System.nanoTime() - startNanos) / 1_000_000);
+    }
+}
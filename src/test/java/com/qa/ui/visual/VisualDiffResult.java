@@ -0,0 +1,66 @@
+package com.qa.ui.visual;
+
+import java.awt.Rectangle;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of comparing a screenshot against its visual baseline
+ */
+public class VisualDiffResult {
+    private final boolean matches;
+    private final String reason;
+    private final int hashDistance;
+    private final double diffRatio;
+    private final List<Rectangle> changedTiles;
+    private final long elapsedMillis;
+
+    VisualDiffResult(boolean matches, String reason, int hashDistance, double diffRatio,
+                     List<Rectangle> changedTiles, long elapsedMillis) {
+        this.matches = matches;
+        this.reason = reason;
+        this.hashDistance = hashDistance;
+        this.diffRatio = diffRatio;
+        this.changedTiles = Collections.unmodifiableList(changedTiles);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public boolean matches() {
+        return matches;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public int getHashDistance() {
+        return hashDistance;
+    }
+
+    /**
+     * Fraction of compared pixels that differ beyond the per-pixel threshold
+     */
+    public double getDiffRatio() {
+        return diffRatio;
+    }
+
+    public List<Rectangle> getChangedTiles() {
+        return changedTiles;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "VisualDiffResult{" +
+                "matches=" + matches +
+                ", reason='" + reason + '\'' +
+                ", hashDistance=" + hashDistance +
+                ", diffRatio=" + String.format("%.5f", diffRatio) +
+                ", changedTiles=" + changedTiles.size() +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
@@ -19,3 +19,42 @@ Feature: Cars API Testing
     Then the response status code should be 200
     And the response should contain a list of cars
     And each car should have required fields
+
+  @get @concurrent
+  Scenario: Get all cars with concurrent requests
+    When I send 5 concurrent GET requests to "/cars"
+    Then all concurrent responses should have status code 200
+
+  @get
+  Scenario: Validate the cars collection
+    When I send a GET request to "/cars"
+    Then the response status code should be 200
+    And the response should contain at least 1 car
+    And each car should have a unique "id"
+    And each car should have "price" between 0 and 10000000
+
+  @get @concurrent
+  Scenario: Get cars by id
+    When I send a GET request to "/cars"
+    And I fetch the first 5 listed cars by id
+    Then all concurrent responses should have status code 200
+
+  @get @snapshot
+  Scenario: Cars catalogue matches its snapshot
+    When I send a GET request to "/cars"
+    Then the response status code should be 200
+    And the response should match snapshot "cars-catalogue"
+
+  @network
+  Scenario: Health check succeeds on a slow network
+    Given the network profile is "slow-api"
+    When I send a GET request to "/health-check"
+    Then the response status code should be 200
+
+  @network
+  Scenario: Injected server errors reach the client
+    Given the network has the following faults:
+      | route         | latency | status |
+      | /health-check | 200     | 503    |
+    When I send a GET request to "/health-check"
+    Then the response status code should be 503
@@ -0,0 +1,31 @@
+@data
+Feature: Test Data Repository
+  As a tester
+  I want to query shared test data by its indexes
+  So that scenarios can pick the cars they need without reloading the dataset
+
+  Background:
+    Given the test dataset "test-cars" is loaded
+
+  Scenario Outline: Look up cars by make
+    When I look up the cars made by "<make>"
+    Then <count> cars should be found
+    And every car found should be made by "<make>"
+
+    Examples:
+      | make   | count |
+      | Toyota | 1     |
+      | tesla  | 1     |
+      | Lada   | 0     |
+
+  Scenario Outline: Look up cars by price range
+    When I look up the cars priced between <min> and <max>
+    Then <count> cars should be found
+    And every car found should be priced between <min> and <max>
+    And every car found should have a unique id
+
+    Examples:
+      | min   | max    | count |
+      | 20000 | 40000  | 3     |
+      | 45000 | 55000  | 2     |
+      | 0     | 100000 | 5     |
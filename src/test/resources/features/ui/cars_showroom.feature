@@ -16,4 +16,15 @@ Feature: Cars Showroom UI Testing
     When the page loads
     Then each car card should display:
       | Make   |
-      | Price  |
\ No newline at end of file
+      | Price  |
+
+  @consistency
+  Scenario: Every displayed car matches the cars API
+    When the page loads
+    Then every car on the page should match the cars API
+
+  @visual
+  Scenario: Showroom layout matches its visual baseline
+    When the page loads
+    Then the page should match the visual baseline "showroom-cards" ignoring:
+      | [data-testid='car-price'] |